@@ -0,0 +1,29 @@
+version = "1.0"
+group = "com.github.mikhailstepanov88.ignite-meetup"
+
+plugins {
+    id("org.gradle.java")
+    id("io.spring.dependency-management")
+    id("me.champeau.gradle.jmh") version "0.4.7"
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:2.0.4.RELEASE")
+    }
+}
+
+dependencies {
+    jmh(project(":part7"))
+    jmh(project(":datagen"))
+    jmh(group = "org.springframework", name = "spring-test")
+}
+
+jmh {
+    jmhVersion = "1.21"
+    profilers = listOf("gc")
+    fork = 1
+    warmupIterations = 5
+    iterations = 5
+    resultFormat = "JSON"
+}
\ No newline at end of file
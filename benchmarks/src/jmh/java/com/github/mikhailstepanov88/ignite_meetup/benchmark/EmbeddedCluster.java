@@ -0,0 +1,104 @@
+package com.github.mikhailstepanov88.ignite_meetup.benchmark;
+
+import org.apache.ignite.Ignite;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheMode;
+import org.apache.ignite.cache.CacheWriteSynchronizationMode;
+import org.apache.ignite.cache.PartitionLossPolicy;
+import org.apache.ignite.configuration.AtomicConfiguration;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import reactor.util.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+class EmbeddedCluster implements AutoCloseable {
+    //<editor-fold desc="constants">
+    private static final String HOST = "127.0.0.1";
+    private static final int DISCOVERY_PORT = 48501;
+    private static final int COMMUNICATION_PORT = 48101;
+    private static final int PORT_RANGE = 10;
+    //</editor-fold>
+
+    private final List<Ignite> nodes = new ArrayList<>();
+    private final Ignite client;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor. Starts server nodes with the same configuration as ignite/ignite1.xml
+     * and client node connected to them. Ports differ from the standalone cluster.
+     *
+     * @param servers count of server nodes.
+     */
+    EmbeddedCluster(int servers) {
+        for (int index = 1; index <= servers; index++)
+            nodes.add(Ignition.start(configuration("benchmark-server-" + index, false)));
+        client = Ignition.start(configuration("benchmark-client", true));
+        nodes.add(client);
+    }
+    //</editor-fold>
+
+    /**
+     * Get client node of the cluster.
+     *
+     * @return client node.
+     */
+    @NonNull
+    Ignite client() {
+        return client;
+    }
+
+    /**
+     * Stop all nodes of the cluster.
+     */
+    @Override
+    public void close() {
+        Collections.reverse(nodes);
+        nodes.forEach(Ignite::close);
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Get configuration of cluster node.
+     *
+     * @param name       name of node.
+     * @param clientMode node is client or server.
+     * @return configuration of cluster node.
+     */
+    @NonNull
+    private static IgniteConfiguration configuration(@NonNull String name, boolean clientMode) {
+        return new IgniteConfiguration()
+                .setIgniteInstanceName(name)
+                .setClientMode(clientMode)
+                .setPeerClassLoadingEnabled(true)
+                .setCommunicationSpi(new TcpCommunicationSpi()
+                        .setLocalAddress(HOST)
+                        .setLocalPort(COMMUNICATION_PORT)
+                        .setLocalPortRange(PORT_RANGE))
+                .setDiscoverySpi(new TcpDiscoverySpi()
+                        .setLocalAddress(HOST)
+                        .setLocalPort(DISCOVERY_PORT)
+                        .setLocalPortRange(PORT_RANGE)
+                        .setIpFinder(new TcpDiscoveryVmIpFinder()
+                                .setAddresses(Collections.singletonList(
+                                        HOST + ":" + DISCOVERY_PORT + ".." + (DISCOVERY_PORT + PORT_RANGE - 1)))))
+                .setAtomicConfiguration(new AtomicConfiguration()
+                        .setAtomicSequenceReserveSize(1000)
+                        .setCacheMode(CacheMode.PARTITIONED)
+                        .setBackups(1))
+                .setCacheConfiguration(new CacheConfiguration<Long, Object>("persons")
+                        .setCacheMode(CacheMode.PARTITIONED)
+                        .setBackups(1)
+                        .setAtomicityMode(CacheAtomicityMode.TRANSACTIONAL)
+                        .setPartitionLossPolicy(PartitionLossPolicy.READ_WRITE_SAFE)
+                        .setWriteSynchronizationMode(CacheWriteSynchronizationMode.PRIMARY_SYNC)
+                        .setStatisticsEnabled(true));
+    }
+    //</editor-fold>
+}
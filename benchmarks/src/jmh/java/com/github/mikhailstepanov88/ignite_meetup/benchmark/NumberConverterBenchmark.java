@@ -0,0 +1,38 @@
+package com.github.mikhailstepanov88.ignite_meetup.benchmark;
+
+import com.github.mikhailstepanov88.ignite_meetup.converter.NumberConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NumberConverterBenchmark {
+    @Param({"42", "9223372036854775807", "-17", "abc", "12a45", "92233720368547758070"})
+    private String value;
+
+    private final NumberConverter converter = new NumberConverter();
+
+    /**
+     * Convert string value to long value.
+     *
+     * @return converted long value.
+     */
+    @Benchmark
+    public Optional<Long> stringToLong() {
+        return converter.stringToLong(value);
+    }
+
+    /**
+     * Check and convert string value to primitive long value, as router does.
+     *
+     * @return converted long value or zero if value is invalid.
+     */
+    @Benchmark
+    public long charsToLong() {
+        int length = value.length();
+        return converter.isLong(value, 0, length) ? converter.charsToLong(value, 0, length) : 0;
+    }
+}
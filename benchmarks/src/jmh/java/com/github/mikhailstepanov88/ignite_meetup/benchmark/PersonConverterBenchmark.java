@@ -0,0 +1,65 @@
+package com.github.mikhailstepanov88.ignite_meetup.benchmark;
+
+import com.github.mikhailstepanov88.ignite_meetup.converter.PersonConverter;
+import com.github.mikhailstepanov88.ignite_meetup.data.dto.PersonDTO;
+import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonConverterBenchmark {
+    @Param({"0", "100", "10000"})
+    private int friendsCount;
+
+    private final PersonConverter converter = new PersonConverter();
+    private PersonEntity person;
+    private Map<Long, PersonEntity> friends;
+    private PersonDTO dto;
+
+    /**
+     * Prepare person with entered count of friends.
+     */
+    @Setup
+    public void setup() {
+        person = Persons.entity(0, friendsCount);
+        friends = new HashMap<>();
+        for (long id = 1; id <= friendsCount; id++)
+            friends.put(id, Persons.entity(id, 0));
+        dto = Persons.dto(friendsCount);
+    }
+
+    /**
+     * Convert person with his friends to data transfer object.
+     *
+     * @return converted data transfer object.
+     */
+    @Benchmark
+    public PersonDTO entityToDTO() {
+        return converter.entityToDTO(0, person, friends);
+    }
+
+    /**
+     * Convert person without his friends to data transfer object.
+     *
+     * @return converted data transfer object.
+     */
+    @Benchmark
+    public PersonDTO entityToDTOWithoutFriends() {
+        return converter.entityToDTO(0, person);
+    }
+
+    /**
+     * Convert data transfer object with friends to person.
+     *
+     * @return converted person.
+     */
+    @Benchmark
+    public PersonEntity dtoToEntity() {
+        return converter.dtoToEntity(dto);
+    }
+}
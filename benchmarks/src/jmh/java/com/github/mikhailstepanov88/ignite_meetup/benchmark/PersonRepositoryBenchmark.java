@@ -0,0 +1,280 @@
+package com.github.mikhailstepanov88.ignite_meetup.benchmark;
+
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.DiagnosticsProperties;
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseBatch;
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseProperties;
+import com.github.mikhailstepanov88.ignite_meetup.converter.FluxConverter;
+import com.github.mikhailstepanov88.ignite_meetup.converter.MonoConverter;
+import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
+import com.github.mikhailstepanov88.ignite_meetup.datagen.PersonDataLoader;
+import com.github.mikhailstepanov88.ignite_meetup.datagen.PersonGenerator;
+import com.github.mikhailstepanov88.ignite_meetup.datagen.SocialGraph;
+import com.github.mikhailstepanov88.ignite_meetup.datagen.SocialGraphGenerator;
+import com.github.mikhailstepanov88.ignite_meetup.diagnostics.QueryStatistics;
+import com.github.mikhailstepanov88.ignite_meetup.metrics.RepositoryMetrics;
+import com.github.mikhailstepanov88.ignite_meetup.repository.IgniteActivation;
+import com.github.mikhailstepanov88.ignite_meetup.repository.PersonReadBatcher;
+import com.github.mikhailstepanov88.ignite_meetup.repository.PersonRepository;
+import com.github.mikhailstepanov88.ignite_meetup.repository.PersonWriteBatcher;
+import com.github.mikhailstepanov88.ignite_meetup.service.FriendsOfUserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.transactions.TransactionOptimisticException;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.nonNull;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-DIGNITE_QUIET=true"})
+public abstract class PersonRepositoryBenchmark {
+    //<editor-fold desc="constants">
+    private static final int SERVERS = 2;
+    private static final int IDS_PER_READ = 32;
+    private static final long SEED = 42;
+    private static final int SUPERNODES = 3;
+    private static final int SUPERNODE_DEGREE = 100_000;
+    private static final int SEARCHED_FIRST_NAMES = 20;
+    //</editor-fold>
+
+    @Param({"10000", "200000"})
+    private int personsCount;
+    @Param({"16"})
+    private int friendsPerPerson;
+    @Param({"false", "true"})
+    private boolean batching;
+
+    private EmbeddedCluster cluster;
+    private IgniteActivation activation;
+    private PersonRepository repository;
+    private FriendsOfUserService friendsOfUserService;
+    private long[] supernodeIds;
+    private List<String> firstNames;
+
+    /**
+     * Start cluster and load persons with power law friendship graph into it.
+     * Mean count of friends is friendsPerPerson, the most popular persons have up to 100k friends.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        cluster = new EmbeddedCluster(SERVERS);
+        Ignite client = cluster.client();
+
+        SocialGraph graph = new SocialGraphGenerator(SEED).generate(personsCount, friendsPerPerson / 2,
+                SUPERNODES, Math.min(SUPERNODE_DEGREE, personsCount / 2));
+        PersonGenerator persons = new PersonGenerator(SEED);
+        new PersonDataLoader(client).load(graph, persons);
+        supernodeIds = Arrays.stream(graph.topNodes(SUPERNODES)).mapToLong(node -> node + 1L).toArray();
+        firstNames = persons.frequentFirstNames(SEARCHED_FIRST_NAMES);
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        IgniteDatabaseProperties properties = new IgniteDatabaseProperties();
+        properties.setReadBatch(batch());
+        properties.setWriteBatch(batch());
+        activation = new IgniteActivation(client, it -> {});
+        repository = new PersonRepository(client, activation, new MonoConverter(), new FluxConverter(),
+                new PersonReadBatcher(activation, properties, registry),
+                new PersonWriteBatcher(client, activation, properties, registry), new RepositoryMetrics(registry),
+                new QueryStatistics(activation, new DiagnosticsProperties()));
+        friendsOfUserService = new FriendsOfUserService(repository);
+    }
+
+    /**
+     * Stop cluster.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        activation.close();
+        cluster.close();
+    }
+
+    /**
+     * Create new person.
+     *
+     * @return identifier of created person.
+     */
+    @Benchmark
+    public Long createPerson() {
+        return repository.createPerson(Persons.entity(0, 0)).block();
+    }
+
+    /**
+     * Read random person.
+     *
+     * @return read person.
+     */
+    @Benchmark
+    public PersonEntity readPersonById() {
+        return repository.readPersonById(randomId()).block();
+    }
+
+    /**
+     * Read random person with the most friends.
+     *
+     * @return read person.
+     */
+    @Benchmark
+    public PersonEntity readSupernodeById() {
+        return repository.readPersonById(randomSupernodeId()).block();
+    }
+
+    /**
+     * Read all friends of random person with the most friends.
+     *
+     * @return count of read friends.
+     */
+    @Benchmark
+    public Long readAllFriendsOfSupernode() {
+        return friendsOfUserService.readAllFriendsOfUserBinary(randomSupernodeId()).count().block();
+    }
+
+    /**
+     * Read several random persons at once.
+     *
+     * @return read persons.
+     */
+    @Benchmark
+    public List<?> readPersonByIds() {
+        return repository.readPersonByIds(randomIds(IDS_PER_READ)).collectList().block();
+    }
+
+    /**
+     * Add random friend to random person without transaction.
+     *
+     * @return operation complete successfully or not.
+     */
+    @Benchmark
+    public Boolean createFriendOfPerson() {
+        return repository.createFriendOfPerson(randomId(), randomId()).block();
+    }
+
+    /**
+     * Scan persons by one of frequent first names. Frequency of names follows Zipf's law,
+     * so the most frequent name is matched several times more often than the rest ones.
+     *
+     * @return matched persons.
+     */
+    @Benchmark
+    public List<?> readAllPersonsByQuery() {
+        String firstName = firstNames.get(ThreadLocalRandom.current().nextInt(firstNames.size()));
+        return repository.readAllPersonsByQuery(firstName, null).collectList().block();
+    }
+
+    /**
+     * Add random persons to friends of each other and remove them back in two transactions.
+     * Conflicts of optimistic transactions are counted instead of failing the benchmark,
+     * any other error fails it.
+     *
+     * @param counters counters of transaction conflicts.
+     * @return friend is removed or not.
+     */
+    @Benchmark
+    public Boolean friendsInTransaction(@NonNull TransactionCounters counters) {
+        long userId = randomId();
+        long friendId = randomId();
+        return friendsOfUserService.createFriendOfUser(userId, friendId)
+                .then(friendsOfUserService.deleteFriendOfUser(userId, friendId))
+                .onErrorResume(PersonRepositoryBenchmark::isOptimisticConflict, ex -> {
+                    counters.conflicts++;
+                    return Mono.empty();
+                })
+                .block();
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Get configuration of batching.
+     *
+     * @return configuration of batching.
+     */
+    @NonNull
+    private IgniteDatabaseBatch batch() {
+        IgniteDatabaseBatch batch = new IgniteDatabaseBatch();
+        batch.setEnabled(batching);
+        return batch;
+    }
+
+    /**
+     * Get identifier of random loaded person.
+     *
+     * @return identifier of random person.
+     */
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, personsCount + 1);
+    }
+
+    /**
+     * Get identifier of random loaded person with the most friends.
+     *
+     * @return identifier of random supernode.
+     */
+    private long randomSupernodeId() {
+        return supernodeIds[ThreadLocalRandom.current().nextInt(supernodeIds.length)];
+    }
+
+    /**
+     * Check that error is conflict of optimistic transaction.
+     * Ignite may wrap conflict into other exceptions, so whole chain of causes is checked.
+     *
+     * @param ex error of transaction.
+     * @return error is conflict of optimistic transaction or not.
+     */
+    private static boolean isOptimisticConflict(@NonNull Throwable ex) {
+        for (Throwable cause = ex; nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof TransactionOptimisticException)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get identifiers of random loaded persons.
+     *
+     * @param count count of identifiers.
+     * @return identifiers of random persons.
+     */
+    @NonNull
+    private List<Long> randomIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int index = 0; index < count; index++)
+            ids.add(randomId());
+        return ids;
+    }
+    //</editor-fold>
+
+    /**
+     * Counters of transaction conflicts.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class TransactionCounters {
+        public long conflicts;
+
+        /**
+         * Reset counters before iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            conflicts = 0;
+        }
+    }
+
+    @Threads(1)
+    public static class SingleThread extends PersonRepositoryBenchmark {}
+
+    @Threads(4)
+    public static class FourThreads extends PersonRepositoryBenchmark {}
+
+    @Threads(16)
+    public static class SixteenThreads extends PersonRepositoryBenchmark {}
+}
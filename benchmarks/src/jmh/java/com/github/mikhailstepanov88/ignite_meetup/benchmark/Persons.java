@@ -0,0 +1,67 @@
+package com.github.mikhailstepanov88.ignite_meetup.benchmark;
+
+import com.github.mikhailstepanov88.ignite_meetup.converter.PersonConverter;
+import com.github.mikhailstepanov88.ignite_meetup.data.common.Gender;
+import com.github.mikhailstepanov88.ignite_meetup.data.dto.PersonDTO;
+import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
+import reactor.util.annotation.NonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+final class Persons {
+    //<editor-fold desc="constants">
+    private static final Gender[] GENDERS = Gender.values();
+    //</editor-fold>
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     */
+    private Persons() {}
+    //</editor-fold>
+
+    /**
+     * Create person with friends that have identifiers from 1 to entered count.
+     *
+     * @param id           identifier of person.
+     * @param friendsCount count of person friends.
+     * @return created person.
+     */
+    @NonNull
+    static PersonEntity entity(long id, int friendsCount) {
+        Collection<Long> friendIds = new HashSet<>();
+        for (long friendId = 1; friendId <= friendsCount; friendId++)
+            friendIds.add(friendId);
+        return entity(id, friendIds);
+    }
+
+    /**
+     * Create person with entered friends.
+     *
+     * @param id        identifier of person.
+     * @param friendIds identifiers of person friends.
+     * @return created person.
+     */
+    @NonNull
+    static PersonEntity entity(long id, @NonNull Collection<Long> friendIds) {
+        return new PersonEntity("First name " + id, "Last name " + id,
+                (int) (18 + id % 60), GENDERS[(int) (id % GENDERS.length)], new HashSet<>(friendIds));
+    }
+
+    /**
+     * Create data transfer object of person with entered count of friends.
+     *
+     * @param friendsCount count of person friends.
+     * @return created data transfer object of person.
+     */
+    @NonNull
+    static PersonDTO dto(int friendsCount) {
+        Map<Long, PersonEntity> friends = new HashMap<>();
+        for (long id = 1; id <= friendsCount; id++)
+            friends.put(id, entity(id, 0));
+        return new PersonConverter().entityToDTO(0, entity(0, friendsCount), friends);
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.mikhailstepanov88.ignite_meetup.benchmark;
+
+import com.github.mikhailstepanov88.ignite_meetup.converter.FluxConverter;
+import com.github.mikhailstepanov88.ignite_meetup.converter.MonoConverter;
+import org.apache.ignite.internal.util.future.IgniteFinishedFutureImpl;
+import org.apache.ignite.lang.IgniteFuture;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mikhailstepanov88.ignite_meetup.diagnostics.IgniteOperation.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReactorBridgeBenchmark {
+    @Param({"1", "100"})
+    private int itemsCount;
+
+    private final MonoConverter monoConverter = new MonoConverter();
+    private final FluxConverter fluxConverter = new FluxConverter();
+    private IgniteFuture<Long> valueFuture;
+    private IgniteFuture<Collection<Long>> collectionFuture;
+    private IgniteFuture<Map<Long, Long>> mapFuture;
+
+    /**
+     * Prepare completed futures, so only the bridging itself is measured.
+     */
+    @Setup
+    public void setup() {
+        List<Long> collection = new ArrayList<>();
+        Map<Long, Long> map = new HashMap<>();
+        for (long id = 0; id < itemsCount; id++) {
+            collection.add(id);
+            map.put(id, id);
+        }
+        valueFuture = new IgniteFinishedFutureImpl<>(42L);
+        collectionFuture = new IgniteFinishedFutureImpl<>(collection);
+        mapFuture = new IgniteFinishedFutureImpl<>(map);
+    }
+
+    /**
+     * Bridge completed future of value to mono and subscribe to it.
+     *
+     * @param blackhole consumer of results.
+     */
+    @Benchmark
+    public void igniteFutureToMono(Blackhole blackhole) {
+        monoConverter.igniteFutureToMono(GET, () -> valueFuture).subscribe(blackhole::consume);
+    }
+
+    /**
+     * Bridge completed future of collection to flux and subscribe to it.
+     *
+     * @param blackhole consumer of results.
+     */
+    @Benchmark
+    public void igniteFutureCollectionToFlux(Blackhole blackhole) {
+        fluxConverter.igniteFutureCollectionToFlux(INVOKE, () -> collectionFuture).subscribe(blackhole::consume);
+    }
+
+    /**
+     * Bridge completed future of map to flux and subscribe to it.
+     *
+     * @param blackhole consumer of results.
+     */
+    @Benchmark
+    public void igniteFutureMapToFlux(Blackhole blackhole) {
+        fluxConverter.igniteFutureMapToFlux(GET_ALL, () -> mapFuture).subscribe(blackhole::consume);
+    }
+}
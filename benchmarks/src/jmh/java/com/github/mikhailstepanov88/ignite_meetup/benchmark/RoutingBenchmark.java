@@ -0,0 +1,117 @@
+package com.github.mikhailstepanov88.ignite_meetup.benchmark;
+
+import com.github.mikhailstepanov88.ignite_meetup.converter.NumberConverter;
+import com.github.mikhailstepanov88.ignite_meetup.matcher.FriendsOfUserMatcher;
+import com.github.mikhailstepanov88.ignite_meetup.matcher.RouteTable;
+import com.github.mikhailstepanov88.ignite_meetup.matcher.UserMatcher;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.NonNull;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpMethod.*;
+import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8;
+import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8_VALUE;
+import static org.springframework.web.reactive.function.server.RequestPredicates.*;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoutingBenchmark {
+    //<editor-fold desc="constants">
+    private static final HandlerFunction<ServerResponse> HANDLER = request -> Mono.empty();
+    //</editor-fold>
+
+    @Param({"POST /users", "GET /users/42", "GET /users/42/friends", "DELETE /users/42/friends/17"})
+    private String requestLine;
+
+    private RouterFunction<ServerResponse> predicateChain;
+    private RouterFunction<ServerResponse> routeTable;
+    private ServerRequest request;
+
+    /**
+     * Prepare routers with all routes and request for the entered route.
+     */
+    @Setup
+    public void setup() {
+        predicateChain = route(legacy(POST, "/users"), HANDLER)
+                .andRoute(legacy(GET, "/users"), HANDLER)
+                .andRoute(legacy(GET, "/users/{userId}"), HANDLER)
+                .andRoute(legacy(PUT, "/users/{userId}"), HANDLER)
+                .andRoute(legacy(DELETE, "/users/{userId}"), HANDLER)
+                .andRoute(legacy(POST, "/users/{userId}/friends"), HANDLER)
+                .andRoute(legacy(GET, "/users/{userId}/friends"), HANDLER)
+                .andRoute(legacy(GET, "/users/{userId}/friends/{friendId}"), HANDLER)
+                .andRoute(legacy(DELETE, "/users/{userId}/friends/{friendId}"), HANDLER);
+
+        UserMatcher userMatcher = new UserMatcher();
+        FriendsOfUserMatcher friendsOfUserMatcher = new FriendsOfUserMatcher();
+        routeTable = new RouteTable(new NumberConverter())
+                .add(POST, "/users", userMatcher::matchCreate, HANDLER)
+                .add(GET, "/users", userMatcher::matchReadAll, HANDLER)
+                .add(GET, "/users/{userId}", userMatcher::matchReadById, HANDLER)
+                .add(PUT, "/users/{userId}", userMatcher::matchUpdate, HANDLER)
+                .add(DELETE, "/users/{userId}", userMatcher::matchDelete, HANDLER)
+                .add(POST, "/users/{userId}/friends", friendsOfUserMatcher::matchCreate, HANDLER)
+                .add(GET, "/users/{userId}/friends", friendsOfUserMatcher::matchReadAll, HANDLER)
+                .add(GET, "/users/{userId}/friends/{friendId}", friendsOfUserMatcher::matchReadById, HANDLER)
+                .add(DELETE, "/users/{userId}/friends/{friendId}", friendsOfUserMatcher::matchDelete, HANDLER);
+
+        String[] methodAndPath = requestLine.split(" ");
+        request = MockServerRequest.builder()
+                .method(HttpMethod.valueOf(methodAndPath[0]))
+                .uri(URI.create("http://localhost:8080" + methodAndPath[1]))
+                .header(ACCEPT, APPLICATION_JSON_UTF8_VALUE)
+                .header(CONTENT_TYPE, APPLICATION_JSON_UTF8_VALUE)
+                .build();
+    }
+
+    /**
+     * Route request by chain of path, accept and content type predicates.
+     *
+     * @return handler of request.
+     */
+    @Benchmark
+    public HandlerFunction<ServerResponse> predicateChain() {
+        return predicateChain.route(request).block();
+    }
+
+    /**
+     * Route request by precompiled route table.
+     *
+     * @return handler of request.
+     */
+    @Benchmark
+    public HandlerFunction<ServerResponse> routeTable() {
+        return routeTable.route(request).block();
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Get predicate that is built on every request, as matchers did before route table.
+     *
+     * @param method  method of request.
+     * @param pattern pattern of request path.
+     * @return predicate of route.
+     */
+    @NonNull
+    private static RequestPredicate legacy(@NonNull HttpMethod method, @NonNull String pattern) {
+        return request -> method(method).and(path(pattern))
+                .and(accept(APPLICATION_JSON_UTF8))
+                .and(contentType(APPLICATION_JSON_UTF8))
+                .test(request);
+    }
+    //</editor-fold>
+}
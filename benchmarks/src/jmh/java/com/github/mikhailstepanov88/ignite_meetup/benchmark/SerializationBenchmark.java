@@ -0,0 +1,105 @@
+package com.github.mikhailstepanov88.ignite_meetup.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.mikhailstepanov88.ignite_meetup.data.dto.PersonDTO;
+import org.openjdk.jmh.annotations.*;
+import reactor.util.annotation.NonNull;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+    @Param({"JSON", "SMILE", "CBOR"})
+    private Format format;
+    @Param({"0", "100", "10000"})
+    private int friendsCount;
+
+    private ObjectMapper objectMapper;
+    private PersonDTO person;
+    private byte[] payload;
+
+    /**
+     * Prepare person and its payload in entered format.
+     *
+     * @throws IOException if person can't be written.
+     */
+    @Setup
+    public void setup() throws IOException {
+        objectMapper = new ObjectMapper(format.factory());
+        person = Persons.dto(friendsCount);
+        payload = objectMapper.writeValueAsBytes(person);
+    }
+
+    /**
+     * Write person with friends and report size of written payload.
+     *
+     * @param size counter of payload size.
+     * @return written payload.
+     * @throws IOException if person can't be written.
+     */
+    @Benchmark
+    public byte[] encode(PayloadSize size) throws IOException {
+        byte[] written = objectMapper.writeValueAsBytes(person);
+        size.payloadBytes = written.length;
+        return written;
+    }
+
+    /**
+     * Read person with friends.
+     *
+     * @return read person.
+     * @throws IOException if person can't be read.
+     */
+    @Benchmark
+    public PersonDTO decode() throws IOException {
+        return objectMapper.readValue(payload, PersonDTO.class);
+    }
+
+    /**
+     * Size of payload written by the last operation of thread, reported by JMH next to score of encode.
+     * Size is assigned instead of summed, so it stays size of one body with the default single thread.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+
+        /**
+         * Reset size before iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+
+    /**
+     * Format of payload.
+     */
+    public enum Format {
+        JSON, SMILE, CBOR;
+
+        /**
+         * Get factory of payload format.
+         *
+         * @return factory of payload format.
+         */
+        @NonNull
+        private JsonFactory factory() {
+            switch (this) {
+                case SMILE:
+                    return new SmileFactory();
+                case CBOR:
+                    return new CBORFactory();
+                default:
+                    return new JsonFactory();
+            }
+        }
+    }
+}
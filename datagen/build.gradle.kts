@@ -0,0 +1,30 @@
+version = "1.0"
+group = "com.github.mikhailstepanov88.ignite-meetup"
+
+plugins {
+    id("org.gradle.java")
+    id("org.gradle.application")
+    id("io.spring.dependency-management")
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:2.0.4.RELEASE")
+    }
+}
+
+dependencies {
+    compile(project(":part7"))
+    compile(group = "org.apache.ignite", name = "ignite-core", version = "2.6.0")
+}
+
+application {
+    mainClassName = "com.github.mikhailstepanov88.ignite_meetup.datagen.DataGenerator"
+    applicationDefaultJvmArgs = listOf("-Xmx4g", "-DIGNITE_QUIET=true")
+}
+
+tasks.getByName<JavaExec>("run") {
+    System.getProperties()
+            .filter { it.key.toString().startsWith("datagen.") }
+            .forEach { systemProperty(it.key.toString(), it.value) }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.github.mikhailstepanov88.ignite_meetup.datagen;
+
+import org.apache.ignite.Ignite;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import reactor.util.annotation.NonNull;
+
+import java.util.Arrays;
+
+public class DataGenerator {
+    /**
+     * Generate persons with power law friendship graph and load them into running cluster.
+     * Settings are read from system properties with "datagen." prefix.
+     *
+     * @param args arguments of command line.
+     */
+    public static void main(@NonNull String[] args) {
+        int persons = Integer.getInteger("datagen.persons", 1_000_000);
+        int friendsPerPerson = Integer.getInteger("datagen.friends_per_person", 8);
+        int supernodes = Integer.getInteger("datagen.supernodes", 3);
+        int supernodeDegree = Integer.getInteger("datagen.supernode_degree", 100_000);
+        long seed = Long.getLong("datagen.seed", 42L);
+        String addresses = System.getProperty("datagen.addresses", "127.0.0.1:47501..47506");
+
+        long startedAt = System.nanoTime();
+        SocialGraph graph = new SocialGraphGenerator(seed)
+                .generate(persons, friendsPerPerson, supernodes, supernodeDegree);
+        System.out.printf("Generated in %d ms: %s%n", (System.nanoTime() - startedAt) / 1_000_000,
+                graph.degreeStatistics());
+
+        try (Ignite client = Ignition.start(configuration(addresses))) {
+            startedAt = System.nanoTime();
+            new PersonDataLoader(client).load(graph, new PersonGenerator(seed));
+            System.out.printf("Loaded in %d ms, supernodes: %s%n", (System.nanoTime() - startedAt) / 1_000_000,
+                    Arrays.toString(Arrays.stream(graph.topNodes(supernodes)).map(node -> node + 1).toArray()));
+        }
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Get configuration of client node.
+     *
+     * @param addresses addresses of server nodes.
+     * @return configuration of client node.
+     */
+    @NonNull
+    private static IgniteConfiguration configuration(@NonNull String addresses) {
+        return new IgniteConfiguration()
+                .setIgniteInstanceName("ignite-datagen")
+                .setClientMode(true)
+                .setPeerClassLoadingEnabled(true)
+                .setDiscoverySpi(new TcpDiscoverySpi()
+                        .setIpFinder(new TcpDiscoveryVmIpFinder()
+                                .setAddresses(Arrays.asList(addresses.split(",")))));
+    }
+    //</editor-fold>
+}
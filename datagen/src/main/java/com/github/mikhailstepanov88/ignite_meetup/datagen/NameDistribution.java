@@ -0,0 +1,62 @@
+package com.github.mikhailstepanov88.ignite_meetup.datagen;
+
+import reactor.util.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class NameDistribution {
+    //<editor-fold desc="constants">
+    private static final double ZIPF_EXPONENT = 1.0;
+    //</editor-fold>
+
+    private final String[] names;
+    private final double[] cumulativeWeights;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     * Names must be ordered by frequency, weight of name with rank r is 1 / r^s (Zipf's law).
+     *
+     * @param names names ordered from the most frequent to the least frequent.
+     */
+    public NameDistribution(@NonNull List<String> names) {
+        if (names.isEmpty()) throw new IllegalArgumentException("Names must not be empty");
+
+        this.names = names.toArray(new String[0]);
+        this.cumulativeWeights = new double[this.names.length];
+        double total = 0;
+        for (int rank = 1; rank <= this.names.length; rank++) {
+            total += 1.0 / Math.pow(rank, ZIPF_EXPONENT);
+            cumulativeWeights[rank - 1] = total;
+        }
+        for (int index = 0; index < cumulativeWeights.length; index++)
+            cumulativeWeights[index] /= total;
+    }
+    //</editor-fold>
+
+    /**
+     * Get random name from distribution.
+     *
+     * @param random source of randomness.
+     * @return random name.
+     */
+    @NonNull
+    public String next(@NonNull SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+        if (index < 0) index = -index - 1;
+        return names[Math.min(index, names.length - 1)];
+    }
+
+    /**
+     * Get the most frequent names of distribution.
+     *
+     * @param count count of names.
+     * @return the most frequent names.
+     */
+    @NonNull
+    public List<String> top(int count) {
+        return Arrays.asList(Arrays.copyOf(names, Math.min(count, names.length)));
+    }
+}
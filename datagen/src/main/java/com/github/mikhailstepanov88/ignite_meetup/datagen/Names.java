@@ -0,0 +1,61 @@
+package com.github.mikhailstepanov88.ignite_meetup.datagen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class Names {
+    //<editor-fold desc="constants">
+    static final List<String> MALE_FIRST_NAMES = Arrays.asList(
+            "James", "John", "Robert", "Michael", "William", "David", "Richard", "Joseph", "Thomas", "Charles",
+            "Christopher", "Daniel", "Matthew", "Anthony", "Mark", "Donald", "Steven", "Paul", "Andrew", "Joshua",
+            "Kenneth", "Kevin", "Brian", "George", "Timothy", "Ronald", "Edward", "Jason", "Jeffrey", "Ryan",
+            "Jacob", "Gary", "Nicholas", "Eric", "Jonathan", "Stephen", "Larry", "Justin", "Scott", "Brandon",
+            "Benjamin", "Samuel", "Gregory", "Alexander", "Frank", "Patrick", "Raymond", "Jack", "Dennis", "Jerry",
+            "Tyler", "Aaron", "Jose", "Adam", "Nathan", "Henry", "Douglas", "Zachary", "Peter", "Kyle",
+            "Craig", "Stan", "Kenny", "Jimmy", "Butters", "Randy", "Gerald", "Stuart", "Token", "Clyde");
+    static final List<String> FEMALE_FIRST_NAMES = Arrays.asList(
+            "Mary", "Patricia", "Jennifer", "Linda", "Elizabeth", "Barbara", "Susan", "Jessica", "Sarah", "Karen",
+            "Lisa", "Nancy", "Betty", "Margaret", "Sandra", "Ashley", "Kimberly", "Emily", "Donna", "Michelle",
+            "Carol", "Amanda", "Dorothy", "Melissa", "Deborah", "Stephanie", "Rebecca", "Sharon", "Laura", "Cynthia",
+            "Kathleen", "Amy", "Angela", "Shirley", "Anna", "Brenda", "Pamela", "Emma", "Nicole", "Helen",
+            "Samantha", "Katherine", "Christine", "Debra", "Rachel", "Carolyn", "Janet", "Catherine", "Maria", "Heather",
+            "Diane", "Ruth", "Julie", "Olivia", "Joyce", "Virginia", "Victoria", "Kelly", "Lauren", "Christina",
+            "Wendy", "Bebe", "Lola", "Sheila", "Liane", "Nelly", "Shelly", "Heidi", "Annie", "Red");
+    static final List<String> LAST_NAMES = Arrays.asList(
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+            "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres", "Nguyen", "Hill", "Flores",
+            "Green", "Adams", "Nelson", "Baker", "Hall", "Rivera", "Campbell", "Mitchell", "Carter", "Roberts",
+            "Gomez", "Phillips", "Evans", "Turner", "Diaz", "Parker", "Cruz", "Edwards", "Collins", "Reyes",
+            "Marsh", "Broflovski", "Cartman", "McCormick", "Stotch", "Tweak", "Black", "Donovan", "Testaburger", "Valmer");
+    static final List<String> ALL_FIRST_NAMES = interleave(MALE_FIRST_NAMES, FEMALE_FIRST_NAMES);
+    //</editor-fold>
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     */
+    private Names() {
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Interleave two lists ordered by frequency into one list ordered by frequency.
+     *
+     * @param first  the first list.
+     * @param second the second list.
+     * @return interleaved list.
+     */
+    private static List<String> interleave(List<String> first, List<String> second) {
+        List<String> result = new ArrayList<>(first.size() + second.size());
+        for (int index = 0; index < Math.max(first.size(), second.size()); index++) {
+            if (index < first.size()) result.add(first.get(index));
+            if (index < second.size()) result.add(second.get(index));
+        }
+        return result;
+    }
+    //</editor-fold>
+}
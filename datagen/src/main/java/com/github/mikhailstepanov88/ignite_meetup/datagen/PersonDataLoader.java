@@ -0,0 +1,50 @@
+package com.github.mikhailstepanov88.ignite_meetup.datagen;
+
+import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteAtomicSequence;
+import org.apache.ignite.IgniteDataStreamer;
+import reactor.util.annotation.NonNull;
+
+public class PersonDataLoader {
+    //<editor-fold desc="constants">
+    private static final String CACHE_NAME = "persons";
+    private static final String SEQUENCE_NAME = "persons_sequence";
+    private static final int PER_NODE_BUFFER_SIZE = 1024;
+    //</editor-fold>
+
+    private final Ignite ignite;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param ignite node of cluster for load.
+     */
+    public PersonDataLoader(@NonNull Ignite ignite) {
+        this.ignite = ignite;
+    }
+    //</editor-fold>
+
+    /**
+     * Load persons of friendship graph into cache through data streamer.
+     * Identifier of person is index of graph node plus one. Sequence of person identifiers
+     * is moved past loaded persons, so new persons don't overwrite them.
+     *
+     * @param graph   friendship graph.
+     * @param persons generator of persons.
+     */
+    public void load(@NonNull SocialGraph graph, @NonNull PersonGenerator persons) {
+        ignite.getOrCreateCache(CACHE_NAME);
+        try (IgniteDataStreamer<Long, PersonEntity> streamer = ignite.dataStreamer(CACHE_NAME)) {
+            streamer.allowOverwrite(true);
+            streamer.perNodeBufferSize(PER_NODE_BUFFER_SIZE);
+            for (int node = 0; node < graph.size(); node++)
+                streamer.addData(node + 1L, persons.person(node, graph.friendIds(node)));
+        }
+
+        IgniteAtomicSequence sequence = ignite.atomicSequence(SEQUENCE_NAME, 0, true);
+        long current = sequence.get();
+        if (current < graph.size()) sequence.getAndAdd(graph.size() - current);
+    }
+}
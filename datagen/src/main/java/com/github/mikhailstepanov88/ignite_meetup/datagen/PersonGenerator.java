@@ -0,0 +1,131 @@
+package com.github.mikhailstepanov88.ignite_meetup.datagen;
+
+import com.github.mikhailstepanov88.ignite_meetup.data.common.Gender;
+import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
+import reactor.util.annotation.NonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class PersonGenerator {
+    //<editor-fold desc="constants">
+    private static final double UNKNOWN_GENDER_SHARE = 0.02;
+    private static final int MIN_AGE = 14;
+    private static final int MAX_AGE = 90;
+    private static final double MEAN_AGE = 34;
+    private static final double AGE_DEVIATION = 13;
+    //</editor-fold>
+
+    private final long seed;
+    private final NameDistribution maleFirstNames = new NameDistribution(Names.MALE_FIRST_NAMES);
+    private final NameDistribution femaleFirstNames = new NameDistribution(Names.FEMALE_FIRST_NAMES);
+    private final NameDistribution allFirstNames = new NameDistribution(Names.ALL_FIRST_NAMES);
+    private final NameDistribution lastNames = new NameDistribution(Names.LAST_NAMES);
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param seed seed of randomness, the same seed gives the same persons.
+     */
+    public PersonGenerator(long seed) {
+        this.seed = seed;
+    }
+    //</editor-fold>
+
+    /**
+     * Generate person with entered index. Person depends only on seed and index,
+     * so it can be generated again without storing it.
+     *
+     * @param index     index of person.
+     * @param friendIds identifiers of person friends.
+     * @return generated person.
+     */
+    @NonNull
+    public PersonEntity person(int index, @NonNull Collection<Long> friendIds) {
+        SplittableRandom random = randomOf(index);
+        Gender gender = genderOf(random);
+        String firstName = firstNamesOf(gender).next(random);
+        String lastName = lastNames.next(random);
+        int age = (int) Math.round(MEAN_AGE + gaussian(random) * AGE_DEVIATION);
+        return new PersonEntity(firstName, lastName, Math.max(MIN_AGE, Math.min(MAX_AGE, age)), gender, friendIds);
+    }
+
+    /**
+     * Get first name of person with entered index.
+     *
+     * @param index index of person.
+     * @return first name of person.
+     */
+    @NonNull
+    public String firstName(int index) {
+        SplittableRandom random = randomOf(index);
+        return firstNamesOf(genderOf(random)).next(random);
+    }
+
+    /**
+     * Get the most frequent first names.
+     *
+     * @param count count of names.
+     * @return the most frequent first names.
+     */
+    @NonNull
+    public List<String> frequentFirstNames(int count) {
+        return allFirstNames.top(count);
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Get source of randomness for person with entered index.
+     *
+     * @param index index of person.
+     * @return source of randomness.
+     */
+    @NonNull
+    private SplittableRandom randomOf(int index) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+    }
+
+    /**
+     * Get random gender.
+     *
+     * @param random source of randomness.
+     * @return random gender.
+     */
+    @NonNull
+    private static Gender genderOf(@NonNull SplittableRandom random) {
+        double value = random.nextDouble();
+        if (value < UNKNOWN_GENDER_SHARE) return Gender.UNKNOWN;
+        return value < (1 + UNKNOWN_GENDER_SHARE) / 2 ? Gender.MALE : Gender.FEMALE;
+    }
+
+    /**
+     * Get random value with standard normal distribution (Box-Muller transform).
+     *
+     * @param random source of randomness.
+     * @return random value.
+     */
+    private static double gaussian(@NonNull SplittableRandom random) {
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    /**
+     * Get distribution of first names for gender.
+     *
+     * @param gender gender of person.
+     * @return distribution of first names.
+     */
+    @NonNull
+    private NameDistribution firstNamesOf(@NonNull Gender gender) {
+        switch (gender) {
+            case MALE:
+                return maleFirstNames;
+            case FEMALE:
+                return femaleFirstNames;
+            default:
+                return allFirstNames;
+        }
+    }
+    //</editor-fold>
+}
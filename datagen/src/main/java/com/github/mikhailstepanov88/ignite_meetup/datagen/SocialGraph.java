@@ -0,0 +1,117 @@
+package com.github.mikhailstepanov88.ignite_meetup.datagen;
+
+import reactor.util.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.stream.IntStream;
+
+public class SocialGraph {
+    private final int[] offsets;
+    private final int[] neighbors;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     * Neighbors of node with index i are stored in neighbors[offsets[i]..offsets[i + 1]).
+     *
+     * @param offsets   offsets of node neighbors, one more than count of nodes.
+     * @param neighbors neighbors of all nodes.
+     */
+    SocialGraph(@NonNull int[] offsets, @NonNull int[] neighbors) {
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+    }
+    //</editor-fold>
+
+    /**
+     * Get count of nodes.
+     *
+     * @return count of nodes.
+     */
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Get count of friendships, every friendship is counted once.
+     *
+     * @return count of friendships.
+     */
+    public long edges() {
+        return neighbors.length / 2;
+    }
+
+    /**
+     * Get degree of node.
+     *
+     * @param node index of node.
+     * @return count of node neighbors.
+     */
+    public int degree(int node) {
+        return offsets[node + 1] - offsets[node];
+    }
+
+    /**
+     * Get identifiers of person friends. Identifier of person is index of node plus one.
+     *
+     * @param node index of node.
+     * @return identifiers of person friends.
+     */
+    @NonNull
+    public Collection<Long> friendIds(int node) {
+        Collection<Long> result = new HashSet<>(degree(node) * 4 / 3 + 1);
+        for (int index = offsets[node]; index < offsets[node + 1]; index++)
+            result.add(neighbors[index] + 1L);
+        return result;
+    }
+
+    /**
+     * Get indexes of nodes with the highest degree.
+     *
+     * @param count count of nodes.
+     * @return indexes of nodes ordered by degree descending.
+     */
+    @NonNull
+    public int[] topNodes(int count) {
+        return IntStream.range(0, size())
+                .boxed()
+                .sorted((left, right) -> Integer.compare(degree(right), degree(left)))
+                .limit(count)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Get statistics of degree distribution.
+     *
+     * @return statistics of degree distribution.
+     */
+    @NonNull
+    public String degreeStatistics() {
+        int[] degrees = new int[size()];
+        for (int node = 0; node < degrees.length; node++)
+            degrees[node] = degree(node);
+        Arrays.sort(degrees);
+        if (degrees.length == 0) return "empty graph";
+
+        return String.format("persons=%d friendships=%d degree: mean=%.1f p50=%d p90=%d p99=%d p99.9=%d max=%d",
+                degrees.length, edges(), neighbors.length / (double) degrees.length,
+                percentile(degrees, 0.5), percentile(degrees, 0.9), percentile(degrees, 0.99),
+                percentile(degrees, 0.999), degrees[degrees.length - 1]);
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Get percentile of sorted values.
+     *
+     * @param sorted   sorted values.
+     * @param fraction fraction of percentile.
+     * @return value of percentile.
+     */
+    private static int percentile(@NonNull int[] sorted, double fraction) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))];
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,164 @@
+package com.github.mikhailstepanov88.ignite_meetup.datagen;
+
+import reactor.util.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class SocialGraphGenerator {
+    //<editor-fold desc="constants">
+    private static final int STRIDE = 1_000_003;
+    //</editor-fold>
+
+    private final long seed;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param seed seed of randomness, the same seed gives the same graph.
+     */
+    public SocialGraphGenerator(long seed) {
+        this.seed = seed;
+    }
+    //</editor-fold>
+
+    /**
+     * Generate friendship graph by preferential attachment (Barabasi-Albert model).
+     * Every new person makes friends with existing persons chosen with probability proportional to their degree,
+     * so degrees follow power law. Supernodes get additional friends up to entered degree.
+     *
+     * @param persons          count of persons.
+     * @param friendsPerPerson count of friends every new person makes.
+     * @param supernodes       count of supernodes.
+     * @param supernodeDegree  minimal degree of supernode.
+     * @return generated friendship graph.
+     */
+    @NonNull
+    public SocialGraph generate(int persons, int friendsPerPerson, int supernodes, int supernodeDegree) {
+        if (persons <= friendsPerPerson || friendsPerPerson < 1)
+            throw new IllegalArgumentException("Count of persons must be greater than count of friends per person");
+        if (supernodes > persons || supernodeDegree >= persons)
+            throw new IllegalArgumentException("Degree of supernode must be less than count of persons");
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long capacity = (long) persons * friendsPerPerson + (long) supernodes * supernodeDegree;
+        if (capacity * 2 > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Graph is too large: " + capacity + " friendships");
+
+        // Ends of edges are stored one after another, so a random end is chosen proportionally to degree.
+        int[] ends = new int[(int) capacity * 2];
+        int edges = 0;
+
+        for (int node = 1; node <= friendsPerPerson; node++)
+            for (int other = 0; other < node; other++)
+                edges = addEdge(ends, edges, node, other);
+
+        int[] targets = new int[friendsPerPerson];
+        for (int node = friendsPerPerson + 1; node < persons; node++) {
+            int chosen = 0;
+            while (chosen < friendsPerPerson) {
+                int target = ends[random.nextInt(edges * 2)];
+                if (contains(targets, chosen, target)) continue;
+                targets[chosen++] = target;
+            }
+            for (int index = 0; index < chosen; index++)
+                edges = addEdge(ends, edges, node, targets[index]);
+        }
+
+        // The oldest persons are already hubs, they are grown into supernodes.
+        int stride = STRIDE;
+        while (gcd(stride, persons) != 1) stride += 2;
+        for (int node = 0; node < supernodes; node++) {
+            long other = random.nextInt(persons);
+            for (int added = 0; added < supernodeDegree; added++) {
+                other = (other + stride) % persons;
+                if (other != node) edges = addEdge(ends, edges, node, (int) other);
+            }
+        }
+
+        return toAdjacency(persons, ends, edges);
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Add edge to the list of edge ends.
+     *
+     * @param ends  ends of edges.
+     * @param edges count of edges.
+     * @param from  the first end of edge.
+     * @param to    the second end of edge.
+     * @return new count of edges.
+     */
+    private static int addEdge(@NonNull int[] ends, int edges, int from, int to) {
+        ends[edges * 2] = from;
+        ends[edges * 2 + 1] = to;
+        return edges + 1;
+    }
+
+    /**
+     * Check that array prefix contains value.
+     *
+     * @param values values for check.
+     * @param count  length of prefix.
+     * @param value  value for search.
+     * @return prefix contains value or not.
+     */
+    private static boolean contains(@NonNull int[] values, int count, int value) {
+        for (int index = 0; index < count; index++)
+            if (values[index] == value)
+                return true;
+        return false;
+    }
+
+    /**
+     * Get greatest common divisor. Stride coprime with count of persons visits every person once.
+     *
+     * @param first  the first value.
+     * @param second the second value.
+     * @return greatest common divisor.
+     */
+    private static int gcd(int first, int second) {
+        return second == 0 ? first : gcd(second, first % second);
+    }
+
+    /**
+     * Convert list of edge ends to compressed adjacency of undirected graph without duplicate edges.
+     *
+     * @param persons count of nodes.
+     * @param ends    ends of edges.
+     * @param edges   count of edges.
+     * @return graph with compressed adjacency.
+     */
+    @NonNull
+    private static SocialGraph toAdjacency(int persons, @NonNull int[] ends, int edges) {
+        int[] offsets = new int[persons + 1];
+        for (int index = 0; index < edges * 2; index++)
+            offsets[ends[index] + 1]++;
+        for (int node = 0; node < persons; node++)
+            offsets[node + 1] += offsets[node];
+
+        int[] neighbors = new int[edges * 2];
+        int[] positions = Arrays.copyOf(offsets, persons);
+        for (int edge = 0; edge < edges; edge++) {
+            int from = ends[edge * 2];
+            int to = ends[edge * 2 + 1];
+            neighbors[positions[from]++] = to;
+            neighbors[positions[to]++] = from;
+        }
+
+        // Supernode friends may repeat friends made by preferential attachment.
+        int[] uniqueOffsets = new int[persons + 1];
+        int size = 0;
+        for (int node = 0; node < persons; node++) {
+            Arrays.sort(neighbors, offsets[node], offsets[node + 1]);
+            uniqueOffsets[node] = size;
+            for (int index = offsets[node]; index < offsets[node + 1]; index++)
+                if (index == offsets[node] || neighbors[index] != neighbors[index - 1])
+                    neighbors[size++] = neighbors[index];
+        }
+        uniqueOffsets[persons] = size;
+        return new SocialGraph(uniqueOffsets, Arrays.copyOf(neighbors, size));
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,2 @@
+#!/bin/bash
+$IGNITE_HOME/bin/control.sh --activate
\ No newline at end of file
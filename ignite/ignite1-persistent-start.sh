@@ -0,0 +1,2 @@
+#!/bin/bash
+$IGNITE_HOME/bin/ignite.sh ignite1-persistent.xml
\ No newline at end of file
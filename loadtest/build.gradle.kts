@@ -0,0 +1,41 @@
+version = "1.0"
+group = "com.github.mikhailstepanov88.ignite-meetup"
+
+plugins {
+    id("org.gradle.java")
+    id("org.gradle.application")
+    id("io.spring.dependency-management")
+}
+
+val parts = (1..7).map { "part$it" }
+parts.forEach { evaluationDependsOn(":$it") }
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:2.0.4.RELEASE")
+    }
+}
+
+dependencies {
+    compile(project(":datagen"))
+    compile(group = "org.apache.ignite", name = "ignite-core", version = "2.6.0")
+    compile(group = "org.springframework.boot", name = "spring-boot-starter-json")
+    compile(group = "org.springframework", name = "spring-webflux")
+    compile(group = "io.projectreactor.ipc", name = "reactor-netty")
+    compile(group = "org.hdrhistogram", name = "HdrHistogram", version = "2.1.10")
+}
+
+application {
+    mainClassName = "com.github.mikhailstepanov88.ignite_meetup.loadtest.LoadTest"
+}
+
+tasks.getByName<JavaExec>("run") {
+    dependsOn(parts.map { ":$it:bootJar" })
+    jvmArgs("-Xms2g", "-Xmx2g", "-DIGNITE_QUIET=true")
+    systemProperty("loadtest.jars", parts.joinToString(",") {
+        (project(":$it").tasks.getByName("bootJar") as Jar).archivePath.absolutePath
+    })
+    System.getProperties()
+            .filter { it.key.toString().startsWith("loadtest.") }
+            .forEach { systemProperty(it.key.toString(), it.value) }
+}
\ No newline at end of file
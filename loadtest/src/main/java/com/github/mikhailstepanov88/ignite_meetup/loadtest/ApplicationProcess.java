@@ -0,0 +1,84 @@
+package com.github.mikhailstepanov88.ignite_meetup.loadtest;
+
+import reactor.util.annotation.NonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+class ApplicationProcess implements AutoCloseable {
+    //<editor-fold desc="constants">
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(30);
+    //</editor-fold>
+
+    private final Process process;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor. Starts application from its jar in a separate process.
+     * Output of application is written to the log file next to the jar.
+     *
+     * @param jar       jar of application.
+     * @param port      port of application.
+     * @param arguments additional arguments of application.
+     * @throws IOException if process can't be started.
+     */
+    ApplicationProcess(@NonNull Path jar, int port, @NonNull List<String> arguments) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Xms1g");
+        command.add("-Xmx1g");
+        command.add("-DIGNITE_QUIET=true");
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(arguments);
+
+        this.process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(jar.resolveSibling(jar.getFileName() + ".loadtest.log").toFile())
+                .start();
+    }
+    //</editor-fold>
+
+    /**
+     * Wait until application answers to requests.
+     *
+     * @param api API of application.
+     * @throws InterruptedException if waiting is interrupted.
+     */
+    void awaitReady(@NonNull UsersApi api) throws InterruptedException {
+        long deadline = System.nanoTime() + START_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive())
+                throw new IllegalStateException("Application exited with code " + process.exitValue());
+            try {
+                api.readUser(0).block(Duration.ofSeconds(1));
+                return;
+            } catch (final RuntimeException ex) {
+                TimeUnit.MILLISECONDS.sleep(500);
+            }
+        }
+        throw new IllegalStateException("Application isn't started in " + START_TIMEOUT);
+    }
+
+    /**
+     * Stop application.
+     */
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+                process.destroyForcibly().waitFor();
+        } catch (final InterruptedException ex) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.mikhailstepanov88.ignite_meetup.loadtest;
+
+import org.apache.ignite.Ignite;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheMode;
+import org.apache.ignite.cache.CacheWriteSynchronizationMode;
+import org.apache.ignite.cache.PartitionLossPolicy;
+import org.apache.ignite.configuration.AtomicConfiguration;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.ClientConnectorConfiguration;
+import org.apache.ignite.configuration.DataPageEvictionMode;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import reactor.util.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+class EmbeddedCluster implements AutoCloseable {
+    //<editor-fold desc="constants">
+    private static final String HOST = "127.0.0.1";
+    //</editor-fold>
+
+    private final List<Ignite> servers = new ArrayList<>();
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor. Starts server nodes with the same configuration and ports as ignite/ignite*.xml,
+     * so applications connect to them with their own application.yml.
+     *
+     * @param count count of server nodes.
+     */
+    EmbeddedCluster(int count) {
+        for (int index = 1; index <= count; index++)
+            servers.add(Ignition.start(configuration(index)));
+    }
+    //</editor-fold>
+
+    /**
+     * Get the first server node of the cluster.
+     *
+     * @return server node.
+     */
+    @NonNull
+    Ignite server() {
+        return servers.get(0);
+    }
+
+    /**
+     * Stop all nodes of the cluster.
+     */
+    @Override
+    public void close() {
+        Collections.reverse(servers);
+        servers.forEach(Ignite::close);
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Get configuration of server node.
+     *
+     * @param index index of server node.
+     * @return configuration of server node.
+     */
+    @NonNull
+    private static IgniteConfiguration configuration(int index) {
+        return new IgniteConfiguration()
+                .setIgniteInstanceName("ignite-server-" + index)
+                .setConsistentId("ignite-server-" + index)
+                .setPeerClassLoadingEnabled(true)
+                .setClientConnectorConfiguration(new ClientConnectorConfiguration()
+                        .setHost(HOST)
+                        .setPort(10799 + index)
+                        .setPortRange(0))
+                .setCommunicationSpi(new TcpCommunicationSpi()
+                        .setLocalAddress(HOST)
+                        .setLocalPort(47101)
+                        .setLocalPortRange(5))
+                .setDiscoverySpi(new TcpDiscoverySpi()
+                        .setLocalAddress(HOST)
+                        .setLocalPort(47501)
+                        .setLocalPortRange(5)
+                        .setIpFinder(new TcpDiscoveryVmIpFinder()
+                                .setShared(true)
+                                .setAddresses(Collections.singletonList(HOST + ":47501..47506"))))
+                .setDataStorageConfiguration(new DataStorageConfiguration()
+                        .setDataRegionConfigurations(new DataRegionConfiguration()
+                                .setName("persons")
+                                .setInitialSize(256L * 1024 * 1024)
+                                .setMaxSize(1024L * 1024 * 1024)
+                                .setPageEvictionMode(DataPageEvictionMode.RANDOM_2_LRU)
+                                .setMetricsEnabled(true)))
+                .setAtomicConfiguration(new AtomicConfiguration()
+                        .setAtomicSequenceReserveSize(1000)
+                        .setCacheMode(CacheMode.PARTITIONED)
+                        .setBackups(1))
+                .setCacheConfiguration(new CacheConfiguration<Long, Object>("persons")
+                        .setCacheMode(CacheMode.PARTITIONED)
+                        .setBackups(1)
+                        .setAtomicityMode(CacheAtomicityMode.TRANSACTIONAL)
+                        .setPartitionLossPolicy(PartitionLossPolicy.READ_WRITE_SAFE)
+                        .setWriteSynchronizationMode(CacheWriteSynchronizationMode.PRIMARY_SYNC)
+                        .setDataRegionName("persons")
+                        .setStatisticsEnabled(true));
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,56 @@
+package com.github.mikhailstepanov88.ignite_meetup.loadtest;
+
+import com.github.mikhailstepanov88.ignite_meetup.datagen.PersonDataLoader;
+import com.github.mikhailstepanov88.ignite_meetup.datagen.PersonGenerator;
+import com.github.mikhailstepanov88.ignite_meetup.datagen.SocialGraph;
+import com.github.mikhailstepanov88.ignite_meetup.datagen.SocialGraphGenerator;
+import org.apache.ignite.Ignite;
+import reactor.util.annotation.NonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+class GraphSeeder {
+    //<editor-fold desc="constants">
+    private static final long SEED = 42;
+    private static final int SUPERNODE_DEGREE = 100_000;
+    //</editor-fold>
+
+    private final Ignite ignite;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param ignite node of cluster for load.
+     */
+    GraphSeeder(@NonNull Ignite ignite) {
+        this.ignite = ignite;
+    }
+    //</editor-fold>
+
+    /**
+     * Load users with power law friendship graph straight into cache, before application is started.
+     *
+     * @param persons          count of users.
+     * @param friendsPerPerson mean count of friends of user.
+     * @param supernodes       count of users with up to 100k friends.
+     * @return loaded users.
+     */
+    @NonNull
+    Population seed(int persons, int friendsPerPerson, int supernodes) {
+        SocialGraph graph = new SocialGraphGenerator(SEED).generate(persons, Math.max(1, friendsPerPerson / 2),
+                supernodes, Math.min(SUPERNODE_DEGREE, persons / 2));
+        PersonGenerator generator = new PersonGenerator(SEED);
+        new PersonDataLoader(ignite).load(graph, generator);
+        System.out.println("Seeded graph: " + graph.degreeStatistics());
+
+        long[] ids = LongStream.rangeClosed(1, persons).toArray();
+        List<String> firstNames = IntStream.range(0, persons)
+                .mapToObj(generator::firstName)
+                .collect(Collectors.toList());
+        return new Population(ids, firstNames);
+    }
+}
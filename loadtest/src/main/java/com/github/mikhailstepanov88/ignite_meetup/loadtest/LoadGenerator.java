@@ -0,0 +1,79 @@
+package com.github.mikhailstepanov88.ignite_meetup.loadtest;
+
+import org.HdrHistogram.Recorder;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.NonNull;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+class LoadGenerator {
+    //<editor-fold desc="constants">
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final long MAX_LATENCY = TimeUnit.SECONDS.toNanos(60);
+    //</editor-fold>
+
+    private final int rate;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param rate arrival rate of requests per second.
+     */
+    LoadGenerator(int rate) {
+        this.rate = rate;
+    }
+    //</editor-fold>
+
+    /**
+     * Send requests at fixed arrival rate, independently of responses.
+     * Latency is measured from the moment request was scheduled,
+     * so stalls of application aren't hidden by delayed sending.
+     *
+     * @param requests supplier of requests.
+     * @param duration duration of load.
+     * @return result of load.
+     */
+    @NonNull
+    LoadResult run(@NonNull Supplier<Mono<HttpStatus>> requests, @NonNull Duration duration) {
+        Recorder recorder = new Recorder(MAX_LATENCY, 3);
+        AtomicLong errors = new AtomicLong();
+        AtomicLong outstanding = new AtomicLong();
+        AtomicLong lastResponse = new AtomicLong();
+
+        long period = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = duration.getSeconds() * rate;
+        long start = System.nanoTime();
+        for (long index = 0; index < total; index++) {
+            long scheduled = start + index * period;
+            long delay;
+            while ((delay = scheduled - System.nanoTime()) > 0)
+                LockSupport.parkNanos(delay);
+
+            outstanding.incrementAndGet();
+            requests.get()
+                    .timeout(REQUEST_TIMEOUT)
+                    .doFinally(signal -> {
+                        long now = System.nanoTime();
+                        recorder.recordValue(Math.min(now - scheduled, MAX_LATENCY));
+                        lastResponse.accumulateAndGet(now, Math::max);
+                        outstanding.decrementAndGet();
+                    })
+                    .subscribe(status -> {
+                        if (status.is5xxServerError()) errors.incrementAndGet();
+                    }, ex -> errors.incrementAndGet());
+        }
+
+        long deadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos() * 2;
+        while (outstanding.get() > 0 && System.nanoTime() < deadline)
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+
+        return new LoadResult(recorder.getIntervalHistogram(), errors.get(),
+                Duration.ofNanos(Math.max(lastResponse.get(), start) - start));
+    }
+}
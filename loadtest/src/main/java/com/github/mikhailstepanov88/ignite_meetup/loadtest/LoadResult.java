@@ -0,0 +1,64 @@
+package com.github.mikhailstepanov88.ignite_meetup.loadtest;
+
+import org.HdrHistogram.Histogram;
+import reactor.util.annotation.NonNull;
+
+import java.time.Duration;
+
+class LoadResult {
+    private final Histogram latencies;
+    private final long errors;
+    private final Duration elapsed;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param latencies histogram of latencies in nanoseconds.
+     * @param errors    count of failed requests.
+     * @param elapsed   time from the first request till the last response.
+     */
+    LoadResult(@NonNull Histogram latencies, long errors, @NonNull Duration elapsed) {
+        this.latencies = latencies;
+        this.errors = errors;
+        this.elapsed = elapsed;
+    }
+    //</editor-fold>
+
+    /**
+     * Get throughput of completed requests.
+     *
+     * @return requests per second.
+     */
+    double getThroughput() {
+        return latencies.getTotalCount() * 1_000_000_000.0 / Math.max(1, elapsed.toNanos());
+    }
+
+    /**
+     * Get latency at entered percentile.
+     *
+     * @param percentile percentile of latency.
+     * @return latency in milliseconds.
+     */
+    double getLatency(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    /**
+     * Get maximal latency.
+     *
+     * @return latency in milliseconds.
+     */
+    double getMaxLatency() {
+        return latencies.getMaxValue() / 1_000_000.0;
+    }
+
+    /**
+     * Get count of failed requests.
+     *
+     * @return count of failed requests.
+     */
+    long getErrors() {
+        return errors;
+    }
+}
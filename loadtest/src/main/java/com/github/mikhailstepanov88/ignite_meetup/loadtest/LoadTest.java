@@ -0,0 +1,117 @@
+package com.github.mikhailstepanov88.ignite_meetup.loadtest;
+
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class LoadTest {
+    //<editor-fold desc="constants">
+    private static final int SERVERS = 2;
+    private static final int FIRST_OFFLOADED_PART = 2;
+    private static final int LAST_OFFLOADED_PART = 6;
+    //</editor-fold>
+
+    /**
+     * Run workloads against every part and print table of results.
+     * Parts with offload executors are run once per offload mode,
+     * so they can be compared with the reactive part on the same workload.
+     * Settings are read from system properties, see {@link LoadTestSettings}.
+     *
+     * @param args arguments of command line.
+     * @throws Exception if load test can't be run.
+     */
+    public static void main(@NonNull String[] args) throws Exception {
+        LoadTestSettings settings = new LoadTestSettings();
+        List<String> rows = new ArrayList<>();
+        for (int part : settings.getParts()) {
+            if (part < FIRST_OFFLOADED_PART || part > LAST_OFFLOADED_PART) {
+                rows.addAll(runPart(settings, part, null));
+                continue;
+            }
+            for (String offloadMode : settings.getOffloadModes())
+                rows.addAll(runPart(settings, part, offloadMode));
+        }
+
+        System.out.println();
+        System.out.printf("Rate: %d req/s, warmup: %ss, duration: %ss, users: %d, seed: %s%n",
+                settings.getRate(), settings.getWarmup().getSeconds(),
+                settings.getDuration().getSeconds(), settings.getPersons(), settings.isGraphSeed() ? "datagen" : "api");
+        System.out.println("| part | offload | workload | throughput, req/s | p50, ms | p99, ms | p999, ms | max, ms | errors |");
+        System.out.println("|------|---------|----------|-------------------|---------|---------|----------|---------|--------|");
+        rows.forEach(System.out::println);
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Run workloads against one part on a fresh cluster.
+     *
+     * @param settings    settings of load test.
+     * @param part        number of part.
+     * @param offloadMode mode of offload executors of part or null if part has no offload executors.
+     * @return rows of results table.
+     * @throws Exception if part can't be run.
+     */
+    @NonNull
+    private static List<String> runPart(@NonNull LoadTestSettings settings,
+                                        int part,
+                                        @Nullable String offloadMode) throws Exception {
+        List<String> rows = new ArrayList<>();
+        try (EmbeddedCluster cluster = new EmbeddedCluster(SERVERS)) {
+            Population seeded = settings.isGraphSeed()
+                    ? new GraphSeeder(cluster.server()).seed(
+                            settings.getPersons(), settings.getFriendsPerPerson(), settings.getSupernodes())
+                    : null;
+            try (ApplicationProcess application = new ApplicationProcess(
+                    settings.getJar(part), settings.getPort(), isNull(offloadMode)
+                            ? Collections.emptyList()
+                            : Collections.singletonList("--offload.mode=" + offloadMode))) {
+                UsersApi api = new UsersApi(settings.getPort());
+                application.awaitReady(api);
+
+                Population population = nonNull(seeded)
+                        ? seeded
+                        : new Seeder(api).seed(part, settings.getPersons(), settings.getFriendsPerPerson());
+                LoadGenerator generator = new LoadGenerator(settings.getRate());
+                for (Workload workload : settings.getWorkloads()) {
+                    if (!workload.isSupportedBy(part)) {
+                        rows.add(row(part, offloadMode, workload, null));
+                        continue;
+                    }
+                    generator.run(() -> workload.next(api, population), settings.getWarmup());
+                    rows.add(row(part, offloadMode, workload, generator.run(() -> workload.next(api, population), settings.getDuration())));
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Format row of results table.
+     *
+     * @param part        number of part.
+     * @param offloadMode mode of offload executors of part or null if part has no offload executors.
+     * @param workload    workload.
+     * @param result      result of workload or null if part doesn't support it.
+     * @return row of results table.
+     */
+    @NonNull
+    private static String row(int part,
+                              @Nullable String offloadMode,
+                              @NonNull Workload workload,
+                              @Nullable LoadResult result) {
+        String offload = Optional.ofNullable(offloadMode).orElse("none");
+        if (isNull(result))
+            return String.format("| part%d | %s | %s | n/a | n/a | n/a | n/a | n/a | n/a |", part, offload, workload);
+        return String.format("| part%d | %s | %s | %.1f | %.2f | %.2f | %.2f | %.2f | %d |",
+                part, offload, workload, result.getThroughput(), result.getLatency(50), result.getLatency(99),
+                result.getLatency(99.9), result.getMaxLatency(), result.getErrors());
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,71 @@
+package com.github.mikhailstepanov88.ignite_meetup.loadtest;
+
+import reactor.util.annotation.NonNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class LoadTestSettings {
+    private final List<Path> jars;
+    private final List<Integer> parts;
+    private final List<Workload> workloads;
+    private final List<String> offloadModes;
+    private final int rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int persons;
+    private final int friendsPerPerson;
+    private final boolean graphSeed;
+    private final int supernodes;
+    private final int port;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor. Reads settings from system properties with "loadtest." prefix.
+     */
+    LoadTestSettings() {
+        this.jars = Arrays.stream(System.getProperty("loadtest.jars", "").split(","))
+                .map(Paths::get)
+                .collect(Collectors.toList());
+        this.parts = Arrays.stream(System.getProperty("loadtest.parts", "1,2,3,4,5,6,7").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .collect(Collectors.toList());
+        this.workloads = Arrays.stream(System.getProperty("loadtest.workloads",
+                Arrays.stream(Workload.values()).map(Enum::name).collect(Collectors.joining(","))).split(","))
+                .map(String::trim)
+                .map(Workload::valueOf)
+                .collect(Collectors.toList());
+        this.offloadModes = Arrays.stream(System.getProperty("loadtest.offload_modes", "platform,elastic").split(","))
+                .map(String::trim)
+                .collect(Collectors.toList());
+        this.rate = Integer.getInteger("loadtest.rate", 500);
+        this.warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 10L));
+        this.duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 30L));
+        this.persons = Integer.getInteger("loadtest.persons", 10_000);
+        this.friendsPerPerson = Integer.getInteger("loadtest.friends_per_person", 8);
+        this.graphSeed = "datagen".equals(System.getProperty("loadtest.seed", "datagen"));
+        this.supernodes = Integer.getInteger("loadtest.supernodes", 3);
+        this.port = Integer.getInteger("loadtest.port", 8080);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="getters">
+    @NonNull Path getJar(int part) {return jars.get(part - 1);}
+    @NonNull List<Integer> getParts() {return parts;}
+    @NonNull List<Workload> getWorkloads() {return workloads;}
+    @NonNull List<String> getOffloadModes() {return offloadModes;}
+    int getRate() {return rate;}
+    @NonNull Duration getWarmup() {return warmup;}
+    @NonNull Duration getDuration() {return duration;}
+    int getPersons() {return persons;}
+    int getFriendsPerPerson() {return friendsPerPerson;}
+    boolean isGraphSeed() {return graphSeed;}
+    int getSupernodes() {return supernodes;}
+    int getPort() {return port;}
+    //</editor-fold>
+}
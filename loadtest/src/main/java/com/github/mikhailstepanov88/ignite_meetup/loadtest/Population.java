@@ -0,0 +1,53 @@
+package com.github.mikhailstepanov88.ignite_meetup.loadtest;
+
+import reactor.util.annotation.NonNull;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+class Population {
+    private final long[] ids;
+    private final List<String> firstNames;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param ids        identifiers of loaded users.
+     * @param firstNames first names of loaded users.
+     */
+    Population(@NonNull long[] ids, @NonNull List<String> firstNames) {
+        this.ids = ids;
+        this.firstNames = firstNames;
+    }
+    //</editor-fold>
+
+    /**
+     * Get identifier of random loaded user.
+     *
+     * @return identifier of user.
+     */
+    long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    /**
+     * Get the first three letters of first name of random loaded user.
+     *
+     * @return part of first name.
+     */
+    @NonNull
+    String randomFirstNamePart() {
+        String firstName = firstNames.get(ThreadLocalRandom.current().nextInt(firstNames.size()));
+        return firstName.substring(0, Math.min(3, firstName.length()));
+    }
+
+    /**
+     * Get count of loaded users.
+     *
+     * @return count of users.
+     */
+    int size() {
+        return ids.length;
+    }
+}
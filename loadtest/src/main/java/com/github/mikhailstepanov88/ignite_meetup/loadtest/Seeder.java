@@ -0,0 +1,63 @@
+package com.github.mikhailstepanov88.ignite_meetup.loadtest;
+
+import reactor.core.publisher.Flux;
+import reactor.util.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class Seeder {
+    //<editor-fold desc="constants">
+    private static final int CONCURRENCY = 64;
+    private static final List<String> FIRST_NAMES = Arrays.asList(
+            "Stan", "Kyle", "Eric", "Kenny", "Butters", "Wendy", "Bebe", "Token", "Clyde", "Craig",
+            "Tweek", "Jimmy", "Timmy", "Randy", "Sharon", "Gerald", "Sheila", "Liane", "Herbert", "Linda");
+    private static final List<String> LAST_NAMES = Arrays.asList(
+            "Marsh", "Broflovski", "Cartman", "McCormick", "Stotch", "Testaburger", "Stevens", "Black",
+            "Donovan", "Tucker", "Tweak", "Valmer", "Burch", "Garrison", "Mackey", "Barbrady");
+    //</editor-fold>
+
+    private final UsersApi api;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param api API of application.
+     */
+    Seeder(@NonNull UsersApi api) {
+        this.api = api;
+    }
+    //</editor-fold>
+
+    /**
+     * Load users through API of application.
+     *
+     * @param part             number of part.
+     * @param persons          count of users.
+     * @param friendsPerPerson count of friends added to every user, if part supports friends.
+     * @return loaded users.
+     */
+    @NonNull
+    Population seed(int part, int persons, int friendsPerPerson) {
+        List<String> firstNames = IntStream.rangeClosed(1, persons)
+                .mapToObj(index -> FIRST_NAMES.get(index % FIRST_NAMES.size()))
+                .collect(Collectors.toList());
+        List<Long> ids = Flux.range(1, persons)
+                .flatMap(index -> api.createUser(index, firstNames.get(index - 1),
+                        LAST_NAMES.get(index % LAST_NAMES.size())), CONCURRENCY)
+                .collectList()
+                .block();
+        long[] loadedIds = ids.stream().mapToLong(Long::longValue).toArray();
+        Population population = new Population(loadedIds, firstNames);
+
+        if (Workload.FRIEND_WRITE_HEAVY.isSupportedBy(part))
+            Flux.fromArray(ids.toArray(new Long[0]))
+                    .flatMap(id -> Flux.range(0, friendsPerPerson)
+                            .flatMap(it -> api.createFriend(id, population.randomId())), CONCURRENCY)
+                    .blockLast();
+        return population;
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.mikhailstepanov88.ignite_meetup.loadtest;
+
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8;
+
+class UsersApi {
+    private final WebClient client;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param port port of application.
+     */
+    UsersApi(int port) {
+        this.client = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + port)
+                .defaultHeader("Accept", APPLICATION_JSON_UTF8.toString())
+                .defaultHeader("Content-Type", APPLICATION_JSON_UTF8.toString())
+                .build();
+    }
+    //</editor-fold>
+
+    /**
+     * Create user. Identifier is sent in body, because part1 requires it.
+     *
+     * @param id        identifier of user for create.
+     * @param firstName first name of user.
+     * @param lastName  last name of user.
+     * @return identifier of created user from "Location" header.
+     */
+    @NonNull
+    Mono<Long> createUser(long id, @NonNull String firstName, @NonNull String lastName) {
+        return client.post().uri("/users")
+                .syncBody(person(id, firstName, lastName))
+                .exchange()
+                .flatMap(response -> release(response).then(Mono.justOrEmpty(response.headers().asHttpHeaders().getLocation())))
+                .map(URI::getPath)
+                .map(it -> Long.valueOf(it.substring(it.lastIndexOf('/') + 1)));
+    }
+
+    /**
+     * Read user by his identifier.
+     *
+     * @param id identifier of user for read.
+     * @return status of response.
+     */
+    @NonNull
+    Mono<HttpStatus> readUser(long id) {
+        return exchange(HttpMethod.GET, "/users/" + id, null);
+    }
+
+    /**
+     * Update user.
+     *
+     * @param id identifier of user for update.
+     * @return status of response.
+     */
+    @NonNull
+    Mono<HttpStatus> updateUser(long id) {
+        return exchange(HttpMethod.PUT, "/users/" + id, person(id, "Updated " + id, "Updated " + id));
+    }
+
+    /**
+     * Search users by part of first name.
+     *
+     * @param firstName part of first name.
+     * @return status of response.
+     */
+    @NonNull
+    Mono<HttpStatus> readUsers(@NonNull String firstName) {
+        return exchange(HttpMethod.GET, "/users?firstName=" + firstName, null);
+    }
+
+    /**
+     * Add friend to user.
+     *
+     * @param userId   identifier of user.
+     * @param friendId identifier of friend.
+     * @return status of response.
+     */
+    @NonNull
+    Mono<HttpStatus> createFriend(long userId, long friendId) {
+        return exchange(HttpMethod.POST, "/users/" + userId + "/friends", person(friendId, "", ""));
+    }
+
+    /**
+     * Remove friend from user.
+     *
+     * @param userId   identifier of user.
+     * @param friendId identifier of friend.
+     * @return status of response.
+     */
+    @NonNull
+    Mono<HttpStatus> deleteFriend(long userId, long friendId) {
+        return exchange(HttpMethod.DELETE, "/users/" + userId + "/friends/" + friendId, null);
+    }
+
+    /**
+     * Read all friends of user.
+     *
+     * @param userId identifier of user.
+     * @return status of response.
+     */
+    @NonNull
+    Mono<HttpStatus> readFriends(long userId) {
+        return exchange(HttpMethod.GET, "/users/" + userId + "/friends", null);
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Send request and drop body of response.
+     *
+     * @param method method of request.
+     * @param uri    URI of request.
+     * @param body   body of request.
+     * @return status of response.
+     */
+    @NonNull
+    private Mono<HttpStatus> exchange(@NonNull HttpMethod method, @NonNull String uri, @Nullable Object body) {
+        WebClient.RequestBodySpec request = client.method(method).uri(uri);
+        return (isNull(body) ? request.exchange() : request.syncBody(body).exchange())
+                .flatMap(response -> release(response).thenReturn(response.statusCode()));
+    }
+
+    /**
+     * Release body of response.
+     *
+     * @param response response for release.
+     * @return completion of release.
+     */
+    @NonNull
+    private Mono<Void> release(@NonNull ClientResponse response) {
+        return response.body(BodyExtractors.toDataBuffers())
+                .doOnNext(DataBufferUtils::release)
+                .then();
+    }
+
+    /**
+     * Get body of person.
+     *
+     * @param id        identifier of person.
+     * @param firstName first name of person.
+     * @param lastName  last name of person.
+     * @return body of person.
+     */
+    @NonNull
+    private Map<String, Object> person(long id, @NonNull String firstName, @NonNull String lastName) {
+        Map<String, Object> person = new HashMap<>();
+        person.put("id", id);
+        person.put("firstName", firstName);
+        person.put("lastName", lastName);
+        person.put("age", 18 + id % 60);
+        person.put("gender", "UNKNOWN");
+        return person;
+    }
+    //</editor-fold>
+}
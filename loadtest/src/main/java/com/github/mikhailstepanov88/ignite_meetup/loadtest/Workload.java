@@ -0,0 +1,79 @@
+package com.github.mikhailstepanov88.ignite_meetup.loadtest;
+
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.NonNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+enum Workload {
+    /**
+     * 90% reads of user by identifier and 10% updates of user.
+     */
+    READ_HEAVY(1) {
+        @NonNull
+        @Override
+        Mono<HttpStatus> next(@NonNull UsersApi api, @NonNull Population population) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long id = population.randomId();
+            return random.nextInt(100) < 90 ? api.readUser(id) : api.updateUser(id);
+        }
+    },
+    /**
+     * Searches of users by part of first name.
+     */
+    SEARCH(3) {
+        @NonNull
+        @Override
+        Mono<HttpStatus> next(@NonNull UsersApi api, @NonNull Population population) {
+            return api.readUsers(population.randomFirstNamePart());
+        }
+    },
+    /**
+     * 50% additions of friend, 30% removals of friend and 20% reads of all friends.
+     */
+    FRIEND_WRITE_HEAVY(4) {
+        @NonNull
+        @Override
+        Mono<HttpStatus> next(@NonNull UsersApi api, @NonNull Population population) {
+            int operation = ThreadLocalRandom.current().nextInt(100);
+            long userId = population.randomId();
+            if (operation < 50) return api.createFriend(userId, population.randomId());
+            if (operation < 80) return api.deleteFriend(userId, population.randomId());
+            return api.readFriends(userId);
+        }
+    };
+
+    private final int sincePart;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param sincePart the first part that has all routes of workload.
+     */
+    Workload(int sincePart) {
+        this.sincePart = sincePart;
+    }
+    //</editor-fold>
+
+    /**
+     * Check that part has all routes of workload.
+     *
+     * @param part number of part.
+     * @return part has all routes of workload or not.
+     */
+    boolean isSupportedBy(int part) {
+        return part >= sincePart;
+    }
+
+    /**
+     * Get the next request of workload.
+     *
+     * @param api        API of application.
+     * @param population loaded users.
+     * @return status of response.
+     */
+    @NonNull
+    abstract Mono<HttpStatus> next(@NonNull UsersApi api, @NonNull Population population);
+}
@@ -0,0 +1,20 @@
+version = "1.0"
+group = "com.github.mikhailstepanov88.ignite-meetup"
+
+plugins {
+    id("org.gradle.java")
+    id("io.spring.dependency-management")
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:2.0.4.RELEASE")
+    }
+}
+
+dependencies {
+    compile(group = "org.springframework.boot", name = "spring-boot")
+    compile(group = "io.projectreactor", name = "reactor-core")
+    compile(group = "io.micrometer", name = "micrometer-core")
+    annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
+}
@@ -0,0 +1,42 @@
+package com.github.mikhailstepanov88.ignite_meetup.config.properties;
+
+import reactor.util.annotation.Nullable;
+
+import java.util.Objects;
+
+public class OffloadPool {
+    @Nullable
+    private Integer threads;
+    @Nullable
+    private Integer queueSize;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor
+     */
+    public OffloadPool() {}
+    //</editor-fold>
+
+    //<editor-fold desc="getters and setters">
+    @Nullable public Integer getThreads() {return threads;}
+    @Nullable public Integer getQueueSize() {return queueSize;}
+    public void setThreads(@Nullable Integer threads) {this.threads = threads;}
+    public void setQueueSize(@Nullable Integer queueSize) {this.queueSize = queueSize;}
+    //</editor-fold>
+
+    //<editor-fold desc="equals and hashCode">
+    @Override
+    public boolean equals(@Nullable Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        OffloadPool offloadPool = (OffloadPool) that;
+        return Objects.equals(threads, offloadPool.threads) &&
+                Objects.equals(queueSize, offloadPool.queueSize);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(threads, queueSize);
+    }
+    //</editor-fold>
+}
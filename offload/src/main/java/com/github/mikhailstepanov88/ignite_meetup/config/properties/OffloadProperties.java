@@ -0,0 +1,67 @@
+package com.github.mikhailstepanov88.ignite_meetup.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+
+@Configuration
+@ConfigurationProperties("offload")
+public class OffloadProperties {
+    @Nullable
+    private String mode;
+    @Nullable
+    private OffloadPool pointReads;
+    @Nullable
+    private OffloadPool scans;
+    @Nullable
+    private OffloadPool writes;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     */
+    public OffloadProperties() {}
+    //</editor-fold>
+
+    //<editor-fold desc="getters and setters">
+    @Nullable public String getMode() {return mode;}
+    @NonNull
+    public OffloadPool getPointReads() {
+        return Optional.ofNullable(pointReads).orElse(new OffloadPool());
+    }
+    @NonNull
+    public OffloadPool getScans() {
+        return Optional.ofNullable(scans).orElse(new OffloadPool());
+    }
+    @NonNull
+    public OffloadPool getWrites() {
+        return Optional.ofNullable(writes).orElse(new OffloadPool());
+    }
+    public void setMode(@Nullable String mode) {this.mode = mode;}
+    public void setPointReads(@Nullable OffloadPool pointReads) {this.pointReads = pointReads;}
+    public void setScans(@Nullable OffloadPool scans) {this.scans = scans;}
+    public void setWrites(@Nullable OffloadPool writes) {this.writes = writes;}
+    //</editor-fold>
+
+    //<editor-fold desc="equals and hashCode">
+    @Override
+    public boolean equals(@Nullable Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        OffloadProperties offloadProperties = (OffloadProperties) that;
+        return Objects.equals(mode, offloadProperties.mode) &&
+                Objects.equals(pointReads, offloadProperties.pointReads) &&
+                Objects.equals(scans, offloadProperties.scans) &&
+                Objects.equals(writes, offloadProperties.writes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, pointReads, scans, writes);
+    }
+    //</editor-fold>
+}
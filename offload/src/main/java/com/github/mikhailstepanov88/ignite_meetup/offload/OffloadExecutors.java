@@ -0,0 +1,224 @@
+package com.github.mikhailstepanov88.ignite_meetup.offload;
+
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.OffloadPool;
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.OffloadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import javax.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Component
+public class OffloadExecutors {
+    //<editor-fold desc="constants">
+    private static final String PLATFORM_MODE = "platform";
+    private static final String ELASTIC_MODE = "elastic";
+    private static final int ELASTIC_TTL_SECONDS = 60;
+    private static final int DEFAULT_POINT_READ_THREADS = 32;
+    private static final int DEFAULT_POINT_READ_QUEUE_SIZE = 512;
+    private static final int DEFAULT_SCAN_THREADS = 2;
+    private static final int DEFAULT_SCAN_QUEUE_SIZE = 16;
+    private static final int DEFAULT_WRITE_THREADS = 16;
+    private static final int DEFAULT_WRITE_QUEUE_SIZE = 256;
+    //</editor-fold>
+
+    private final Bulkhead pointReads;
+    private final Bulkhead scans;
+    private final Bulkhead writes;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     * In platform mode every class of operations has its own fixed pool of threads,
+     * in elastic mode every operation runs on its own cached thread and classes of operations
+     * are limited by semaphores with the same counts of permits as threads of pools.
+     *
+     * @param properties properties of offload executors.
+     * @param registry   registry of metrics.
+     */
+    public OffloadExecutors(@NonNull OffloadProperties properties, @NonNull MeterRegistry registry) {
+        String mode = Optional.ofNullable(properties.getMode()).orElse(PLATFORM_MODE);
+        if (!PLATFORM_MODE.equals(mode) && !ELASTIC_MODE.equals(mode))
+            throw new IllegalArgumentException("Offload mode \"" + mode + "\" is not supported");
+
+        boolean elastic = ELASTIC_MODE.equals(mode);
+        this.pointReads = new Bulkhead("point-reads", properties.getPointReads(),
+                DEFAULT_POINT_READ_THREADS, DEFAULT_POINT_READ_QUEUE_SIZE, elastic, registry);
+        this.scans = new Bulkhead("scans", properties.getScans(),
+                DEFAULT_SCAN_THREADS, DEFAULT_SCAN_QUEUE_SIZE, elastic, registry);
+        this.writes = new Bulkhead("writes", properties.getWrites(),
+                DEFAULT_WRITE_THREADS, DEFAULT_WRITE_QUEUE_SIZE, elastic, registry);
+    }
+    //</editor-fold>
+
+    /**
+     * Execute blocking read of single person or of persons by their identifiers out of event loop.
+     *
+     * @param action         blocking action for execution.
+     * @param <TypeOfResult> type of action result.
+     * @return result of action, fails with {@link RejectedExecutionException} if executor of point reads is full.
+     */
+    @NonNull
+    public <TypeOfResult> Mono<TypeOfResult> pointRead(@NonNull Callable<TypeOfResult> action) {
+        return pointReads.execute(action);
+    }
+
+    /**
+     * Execute blocking scan of persons out of event loop.
+     *
+     * @param action         blocking action for execution.
+     * @param <TypeOfResult> type of action result.
+     * @return result of action, fails with {@link RejectedExecutionException} if executor of scans is full.
+     */
+    @NonNull
+    public <TypeOfResult> Mono<TypeOfResult> scan(@NonNull Callable<TypeOfResult> action) {
+        return scans.execute(action);
+    }
+
+    /**
+     * Execute blocking write of persons out of event loop.
+     *
+     * @param action         blocking action for execution.
+     * @param <TypeOfResult> type of action result.
+     * @return result of action, fails with {@link RejectedExecutionException} if executor of writes is full.
+     */
+    @NonNull
+    public <TypeOfResult> Mono<TypeOfResult> write(@NonNull Callable<TypeOfResult> action) {
+        return writes.execute(action);
+    }
+
+    /**
+     * Stop all executors.
+     */
+    @PreDestroy
+    public void close() {
+        pointReads.close();
+        scans.close();
+        writes.close();
+    }
+
+    /**
+     * Bounded executor for one class of operations.
+     */
+    private static class Bulkhead {
+        private final String name;
+        private final int queueSize;
+        private final Counter rejected;
+        private final Scheduler scheduler;
+        @Nullable
+        private final ThreadPoolExecutor executor;
+        @Nullable
+        private final Semaphore permits;
+
+        /**
+         * Constructor.
+         *
+         * @param name             name of operations class.
+         * @param pool             properties of executor.
+         * @param defaultThreads   default count of threads.
+         * @param defaultQueueSize default size of queue.
+         * @param elastic          operations run on cached threads limited by semaphore or on fixed pool.
+         * @param registry         registry of metrics.
+         */
+        private Bulkhead(@NonNull String name,
+                         @NonNull OffloadPool pool,
+                         int defaultThreads,
+                         int defaultQueueSize,
+                         boolean elastic,
+                         @NonNull MeterRegistry registry) {
+            int threads = Optional.ofNullable(pool.getThreads()).orElse(defaultThreads);
+            Tags tags = Tags.of("executor", name);
+            this.name = name;
+            this.queueSize = Optional.ofNullable(pool.getQueueSize()).orElse(defaultQueueSize);
+            this.rejected = Counter.builder("offload.rejected")
+                    .description("Operations rejected because executor and its queue are full")
+                    .tags(tags)
+                    .register(registry);
+
+            if (elastic) {
+                this.executor = null;
+                this.permits = new Semaphore(threads, true);
+                this.scheduler = Schedulers.newElastic("offload-" + name, ELASTIC_TTL_SECONDS, true);
+                registry.gauge("offload.queued", tags, permits, Semaphore::getQueueLength);
+                registry.gauge("offload.active", tags, permits, it -> threads - it.availablePermits());
+                return;
+            }
+
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.permits = null;
+            this.executor = new ThreadPoolExecutor(threads, threads, 0, MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueSize),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "offload-" + name + "-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (runnable, executor) -> {
+                        throw reject();
+                    });
+            this.scheduler = Schedulers.fromExecutorService(executor);
+            registry.gauge("offload.queued", tags, executor, it -> it.getQueue().size());
+            registry.gauge("offload.active", tags, executor, ThreadPoolExecutor::getActiveCount);
+        }
+
+        /**
+         * Execute blocking action on executor.
+         * On cached thread the action waits for permit of its class of operations.
+         *
+         * @param action         blocking action for execution.
+         * @param <TypeOfResult> type of action result.
+         * @return result of action.
+         */
+        @NonNull
+        private <TypeOfResult> Mono<TypeOfResult> execute(@NonNull Callable<TypeOfResult> action) {
+            Semaphore permits = this.permits;
+            if (isNull(permits)) return Mono.fromCallable(action).subscribeOn(scheduler);
+
+            return Mono.fromCallable(() -> {
+                if (permits.getQueueLength() >= queueSize) throw reject();
+                permits.acquire();
+                try {
+                    return action.call();
+                } finally {
+                    permits.release();
+                }
+            }).subscribeOn(scheduler);
+        }
+
+        /**
+         * Count rejected operation.
+         *
+         * @return exception of rejected operation.
+         */
+        @NonNull
+        private RejectedExecutionException reject() {
+            rejected.increment();
+            return new RejectedExecutionException("Executor of " + name + " is full");
+        }
+
+        /**
+         * Stop executor.
+         */
+        private void close() {
+            scheduler.dispose();
+            if (nonNull(executor)) executor.shutdown();
+        }
+    }
+}
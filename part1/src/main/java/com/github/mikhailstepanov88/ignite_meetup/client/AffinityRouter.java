@@ -0,0 +1,208 @@
+package com.github.mikhailstepanov88.ignite_meetup.client;
+
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseAffinity;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterMetrics;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.lang.IgniteProductVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.toList;
+
+public class AffinityRouter {
+    //<editor-fold desc="constants">
+    private static final int DEFAULT_PARTITIONS = 1024;
+    private static final Logger LOGGER = LoggerFactory.getLogger(AffinityRouter.class);
+    //</editor-fold>
+
+    private final boolean enabled;
+    private final RendezvousAffinityFunction function;
+    private volatile Topology topology = new Topology(Collections.emptySet(), new String[0]);
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     * Routing is best-effort: thin client of Ignite 2.6 can't read assignment of partitions from cluster,
+     * so partitions are assigned locally by the same function as on server nodes over nodes with healthy connections.
+     * Assignment matches the cluster only if all server nodes are remote nodes with names equal to their
+     * consistent identifiers, and the cache has the same count of partitions, no node filter and no other baseline.
+     * Otherwise key is sent to another node, and server forwards operation to the real primary node.
+     *
+     * @param affinity properties of affinity of cache of persons.
+     */
+    public AffinityRouter(@NonNull IgniteDatabaseAffinity affinity) {
+        this.enabled = Optional.ofNullable(affinity.getEnabled()).orElse(true);
+        this.function = new RendezvousAffinityFunction(false,
+                Optional.ofNullable(affinity.getPartitions()).orElse(DEFAULT_PARTITIONS));
+    }
+    //</editor-fold>
+
+    /**
+     * Get primary node of key.
+     *
+     * @param key key of cache of persons.
+     * @return name of primary node or null if it is unknown.
+     */
+    @Nullable
+    public String primaryNode(long key) {
+        Topology topology = this.topology;
+        if (!enabled || topology.primaries.length == 0) return null;
+        return topology.primaries[function.partition(key)];
+    }
+
+    /**
+     * Reassign partitions if set of alive nodes is changed.
+     *
+     * @param nodes names of alive nodes.
+     */
+    public synchronized void update(@NonNull Collection<String> nodes) {
+        Set<String> alive = new TreeSet<>(nodes);
+        if (!enabled || alive.equals(topology.nodes)) return;
+
+        List<ClusterNode> clusterNodes = alive.stream().map(RouterNode::new).collect(toList());
+        String[] primaries = new String[clusterNodes.isEmpty() ? 0 : function.getPartitions()];
+        for (int partition = 0; partition < primaries.length; partition++)
+            primaries[partition] = (String) function.assignPartition(partition, clusterNodes, 0, null)
+                    .get(0)
+                    .consistentId();
+        this.topology = new Topology(alive, primaries);
+        LOGGER.info("Partitions of persons are reassigned to nodes {}", alive);
+    }
+
+    /**
+     * Alive nodes and primary nodes of partitions.
+     */
+    private static class Topology {
+        private final Set<String> nodes;
+        private final String[] primaries;
+
+        /**
+         * Constructor.
+         *
+         * @param nodes     names of alive nodes.
+         * @param primaries names of primary nodes by partitions.
+         */
+        private Topology(@NonNull Set<String> nodes, @NonNull String[] primaries) {
+            this.nodes = nodes;
+            this.primaries = primaries;
+        }
+    }
+
+    /**
+     * Remote node for affinity function.
+     * Affinity function uses only identifiers of node, other properties of node are unknown to thin client.
+     */
+    private static class RouterNode implements ClusterNode {
+        private final String name;
+        private final UUID id;
+
+        /**
+         * Constructor.
+         *
+         * @param name name of node equal to its consistent identifier.
+         */
+        private RouterNode(@NonNull String name) {
+            this.name = name;
+            this.id = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @NonNull
+        @Override
+        public UUID id() {
+            return id;
+        }
+
+        @NonNull
+        @Override
+        public Object consistentId() {
+            return name;
+        }
+
+        @Nullable
+        @Override
+        public <T> T attribute(String name) {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public ClusterMetrics metrics() {
+            return null;
+        }
+
+        @NonNull
+        @Override
+        public Map<String, Object> attributes() {
+            return Collections.emptyMap();
+        }
+
+        @NonNull
+        @Override
+        public Collection<String> addresses() {
+            return Collections.emptyList();
+        }
+
+        @NonNull
+        @Override
+        public Collection<String> hostNames() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public long order() {
+            return 0;
+        }
+
+        @Nullable
+        @Override
+        public IgniteProductVersion version() {
+            return null;
+        }
+
+        @Override
+        public boolean isLocal() {
+            return false;
+        }
+
+        @Override
+        public boolean isDaemon() {
+            return false;
+        }
+
+        @Override
+        public boolean isClient() {
+            return false;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object that) {
+            if (this == that) return true;
+            if (that == null || getClass() != that.getClass()) return false;
+            return id.equals(((RouterNode) that).id);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.github.mikhailstepanov88.ignite_meetup.client;
+
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseNode;
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabasePool;
+import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.client.ClientCache;
+import org.apache.ignite.client.ClientConnectionException;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.configuration.ClientConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toSet;
+
+public class ThinClientPool implements AutoCloseable {
+    //<editor-fold desc="constants">
+    private static final String CACHE_NAME = "persons";
+    private static final int DEFAULT_CONNECTIONS_PER_NODE = 2;
+    private static final int DEFAULT_QUEUE_SIZE = 1024;
+    private static final Duration DEFAULT_HEALTH_CHECK_INTERVAL = Duration.ofSeconds(5);
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThinClientPool.class);
+    //</editor-fold>
+
+    private final List<Connection> connections;
+    private final AffinityRouter router;
+    private final Counter primaryRoutes;
+    private final Counter fallbackRoutes;
+    private final ScheduledExecutorService healthChecker;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     * Every node gets its own connections, unreachable connections are reconnected by periodic health check.
+     *
+     * @param nodes    remote nodes.
+     * @param pool     properties of pool.
+     * @param router   router of keys to their primary nodes.
+     * @param registry registry of metrics.
+     */
+    public ThinClientPool(@NonNull Collection<IgniteDatabaseNode> nodes,
+                          @NonNull IgniteDatabasePool pool,
+                          @NonNull AffinityRouter router,
+                          @NonNull MeterRegistry registry) {
+        if (nodes.isEmpty()) throw new IllegalArgumentException("Remote nodes of Ignite are not set");
+
+        int connectionsPerNode = Optional.ofNullable(pool.getConnectionsPerNode()).orElse(DEFAULT_CONNECTIONS_PER_NODE);
+        int queueSize = Optional.ofNullable(pool.getQueueSize()).orElse(DEFAULT_QUEUE_SIZE);
+        Duration healthCheckInterval = Optional.ofNullable(pool.getHealthCheckInterval()).orElse(DEFAULT_HEALTH_CHECK_INTERVAL);
+
+        List<Connection> connections = new ArrayList<>();
+        for (IgniteDatabaseNode node : nodes) {
+            String address = node.getHost() + ":" + node.getPort();
+            String name = Optional.ofNullable(node.getName()).orElse(address);
+            for (int index = 0; index < connectionsPerNode; index++)
+                connections.add(new Connection(name, address, index, queueSize, registry));
+        }
+        this.connections = Collections.unmodifiableList(connections);
+        this.connections.forEach(Connection::connect);
+        registry.gauge("ignite.pool.healthy", this.connections, it -> it.stream().filter(Connection::isHealthy).count());
+
+        this.router = router;
+        this.primaryRoutes = Counter.builder("ignite.pool.routed")
+                .description("Key operations sent to connections of primary nodes of keys or to any connections")
+                .tag("route", "primary")
+                .register(registry);
+        this.fallbackRoutes = Counter.builder("ignite.pool.routed")
+                .description("Key operations sent to connections of primary nodes of keys or to any connections")
+                .tag("route", "fallback")
+                .register(registry);
+        refreshAffinity();
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ignite-pool-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.healthChecker.scheduleWithFixedDelay(this::checkHealth,
+                healthCheckInterval.toMillis(), healthCheckInterval.toMillis(), MILLISECONDS);
+    }
+    //</editor-fold>
+
+    /**
+     * Execute operation with key of cache of persons asynchronously.
+     * Operation is queued to the healthy connection with the shortest queue,
+     * so requests of different callers are sent back to back without waiting for each other.
+     * Connections of primary node of the key are preferred, so server doesn't forward operation to another node.
+     * Operation failed on lost connection is retried once on another connection only if it is retryable,
+     * because operation may be applied by server before connection is lost.
+     *
+     * @param key            key of operation.
+     * @param retryable      operation gives the same result if it is applied twice, like read or put, or not.
+     * @param operation      operation for execution.
+     * @param <TypeOfResult> type of operation result.
+     * @return result of operation, fails with {@link RejectedExecutionException} if queues of connections are full.
+     */
+    @NonNull
+    public <TypeOfResult> CompletableFuture<TypeOfResult> execute(
+            long key,
+            boolean retryable,
+            @NonNull Function<ClientCache<Long, PersonEntity>, TypeOfResult> operation) {
+        CompletableFuture<TypeOfResult> result = new CompletableFuture<>();
+        submit(operation, retryable, result, router.primaryNode(key), null);
+        return result;
+    }
+
+    /**
+     * Stop health check and close all connections.
+     */
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        connections.forEach(Connection::close);
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Submit operation to selected connection.
+     *
+     * @param operation      operation for execution.
+     * @param retryable      operation can be retried on another connection or not.
+     * @param result         result of operation.
+     * @param primary        name of primary node of operation key or null if it is unknown.
+     * @param failed         connection that failed operation before or null for the first attempt.
+     * @param <TypeOfResult> type of operation result.
+     */
+    private <TypeOfResult> void submit(@NonNull Function<ClientCache<Long, PersonEntity>, TypeOfResult> operation,
+                                       boolean retryable,
+                                       @NonNull CompletableFuture<TypeOfResult> result,
+                                       @Nullable String primary,
+                                       @Nullable Connection failed) {
+        Connection connection = select(primary, failed);
+        if (isNull(connection)) {
+            result.completeExceptionally(new ClientConnectionException("No healthy connections to Ignite"));
+            return;
+        }
+
+        try {
+            connection.submit(operation).whenComplete((value, ex) -> {
+                if (isNull(ex)) {
+                    result.complete(value);
+                    return;
+                }
+                if (ex instanceof ClientConnectionException) refreshAffinity();
+                if (ex instanceof ClientConnectionException && retryable && isNull(failed))
+                    submit(operation, true, result, null, connection);
+                else result.completeExceptionally(ex);
+            });
+        } catch (final RejectedExecutionException ex) {
+            result.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Select healthy connection with the shortest queue out of two random ones.
+     * Connections of primary node are selected if there are healthy ones.
+     *
+     * @param primary  name of primary node or null if it is unknown.
+     * @param excluded connection that must not be selected or null.
+     * @return selected connection or null if there are no healthy connections.
+     */
+    @Nullable
+    private Connection select(@Nullable String primary, @Nullable Connection excluded) {
+        List<Connection> healthy = new ArrayList<>(connections.size());
+        if (nonNull(primary))
+            for (Connection connection : connections)
+                if (connection != excluded && connection.isHealthy() && connection.node.equals(primary))
+                    healthy.add(connection);
+        if (!healthy.isEmpty()) primaryRoutes.increment();
+        else {
+            for (Connection connection : connections)
+                if (connection != excluded && connection.isHealthy())
+                    healthy.add(connection);
+            if (healthy.isEmpty()) return null;
+            fallbackRoutes.increment();
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Connection first = healthy.get(random.nextInt(healthy.size()));
+        Connection second = healthy.get(random.nextInt(healthy.size()));
+        return first.getPending() <= second.getPending() ? first : second;
+    }
+
+    /**
+     * Reconnect unhealthy connections and reassign partitions to alive nodes.
+     */
+    private void checkHealth() {
+        for (Connection connection : connections)
+            if (!connection.isHealthy())
+                connection.connect();
+        refreshAffinity();
+    }
+
+    /**
+     * Reassign partitions to nodes that have healthy connections.
+     */
+    private void refreshAffinity() {
+        router.update(connections.stream()
+                .filter(Connection::isHealthy)
+                .map(it -> it.node)
+                .collect(toSet()));
+    }
+    //</editor-fold>
+
+    /**
+     * Connection to one remote node with its own queue of operations.
+     */
+    private static class Connection {
+        private final String node;
+        private final String address;
+        private final ThreadPoolExecutor executor;
+        private final AtomicInteger pending = new AtomicInteger();
+        @Nullable
+        private volatile IgniteClient client;
+        @Nullable
+        private volatile ClientCache<Long, PersonEntity> cache;
+
+        /**
+         * Constructor.
+         *
+         * @param node      name of remote node.
+         * @param address   address of remote node in format host:port.
+         * @param index     index of connection to remote node.
+         * @param queueSize size of queue of operations.
+         * @param registry  registry of metrics.
+         */
+        private Connection(@NonNull String node,
+                           @NonNull String address,
+                           int index,
+                           int queueSize,
+                           @NonNull MeterRegistry registry) {
+            this.node = node;
+            this.address = address;
+            this.executor = new ThreadPoolExecutor(1, 1, 0, MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueSize),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "ignite-pool-" + address + "-" + index);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (runnable, executor) -> {
+                        throw new RejectedExecutionException("Queue of connection to " + address + " is full");
+                    });
+            registry.gauge("ignite.pool.pending", Tags.of("node", node, "connection", String.valueOf(index)),
+                    pending, AtomicInteger::get);
+        }
+
+        /**
+         * Check that connection is established.
+         *
+         * @return connection is healthy or not.
+         */
+        private boolean isHealthy() {
+            return nonNull(cache);
+        }
+
+        /**
+         * Get count of operations that are queued or executed on connection.
+         *
+         * @return count of pending operations.
+         */
+        private int getPending() {
+            return pending.get();
+        }
+
+        /**
+         * Establish connection to remote node, failure keeps connection unhealthy.
+         */
+        private synchronized void connect() {
+            if (isHealthy()) return;
+            try {
+                IgniteClient client = Ignition.startClient(new ClientConfiguration().setAddresses(address));
+                this.client = client;
+                this.cache = client.getOrCreateCache(CACHE_NAME);
+                LOGGER.info("Connection to Ignite node {} is established", address);
+            } catch (final RuntimeException ex) {
+                LOGGER.warn("Connection to Ignite node {} is not established: {}", address, ex.getMessage());
+                disconnect();
+            }
+        }
+
+        /**
+         * Queue operation for execution on connection.
+         * Operation failed with lost connection marks connection unhealthy.
+         *
+         * @param operation      operation for execution.
+         * @param <TypeOfResult> type of operation result.
+         * @return result of operation.
+         */
+        @NonNull
+        private <TypeOfResult> CompletableFuture<TypeOfResult> submit(
+                @NonNull Function<ClientCache<Long, PersonEntity>, TypeOfResult> operation) {
+            CompletableFuture<TypeOfResult> result = new CompletableFuture<>();
+            pending.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    try {
+                        ClientCache<Long, PersonEntity> cache = this.cache;
+                        if (isNull(cache)) throw new ClientConnectionException("Connection to " + address + " is lost");
+                        result.complete(operation.apply(cache));
+                    } catch (final ClientConnectionException ex) {
+                        disconnect();
+                        result.completeExceptionally(ex);
+                    } catch (final Throwable ex) {
+                        result.completeExceptionally(ex);
+                    } finally {
+                        pending.decrementAndGet();
+                    }
+                });
+            } catch (final RejectedExecutionException ex) {
+                pending.decrementAndGet();
+                throw ex;
+            }
+            return result;
+        }
+
+        /**
+         * Mark connection unhealthy and close its client.
+         */
+        private synchronized void disconnect() {
+            IgniteClient client = this.client;
+            this.client = null;
+            this.cache = null;
+            if (isNull(client)) return;
+            try {
+                client.close();
+            } catch (final Exception ex) {
+                LOGGER.debug("Client of Ignite node {} is not closed", address, ex);
+            }
+        }
+
+        /**
+         * Stop queue of operations and close connection.
+         */
+        private void close() {
+            executor.shutdown();
+            disconnect();
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package com.github.mikhailstepanov88.ignite_meetup.config;
 
+import com.github.mikhailstepanov88.ignite_meetup.client.AffinityRouter;
+import com.github.mikhailstepanov88.ignite_meetup.client.ThinClientPool;
 import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseProperties;
-import org.apache.ignite.Ignition;
-import org.apache.ignite.client.IgniteClient;
-import org.apache.ignite.configuration.ClientConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import reactor.util.annotation.NonNull;
@@ -13,31 +13,19 @@ import static java.util.Objects.requireNonNull;
 @Configuration
 public class IgniteDatabaseConfig {
     /**
-     * Get client of Ignite.
+     * Get pool of clients of Ignite.
      *
      * @param properties properties of Ignite database.
-     * @return client of Ignite.
+     * @param registry   registry of metrics.
+     * @return pool of clients of Ignite.
      */
     @NonNull
     @Bean(destroyMethod = "close")
-    public IgniteClient igniteClient(@NonNull IgniteDatabaseProperties properties) {
-        return Ignition.startClient(igniteConfiguration(properties));
-    }
-
-    //<editor-fold desc="private additional methods">
-    /**
-     * Get configuration of Ignite.
-     *
-     * @param properties properties of Ignite database.
-     * @return configuration of Ignite.
-     */
-    @NonNull
-    private ClientConfiguration igniteConfiguration(@NonNull IgniteDatabaseProperties properties) {
+    public ThinClientPool thinClientPool(@NonNull IgniteDatabaseProperties properties,
+                                         @NonNull MeterRegistry registry) {
         requireNonNull(properties.getRemoteNodes());
 
-        return new ClientConfiguration().setAddresses(properties.getRemoteNodes().stream()
-                .map(it -> it.getHost() + ":" + it.getPort())
-                .toArray(String[]::new));
+        return new ThinClientPool(properties.getRemoteNodes(), properties.getPool(),
+                new AffinityRouter(properties.getAffinity()), registry);
     }
-    //</editor-fold>
 }
\ No newline at end of file
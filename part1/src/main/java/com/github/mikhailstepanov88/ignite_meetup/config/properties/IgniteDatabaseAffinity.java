@@ -0,0 +1,42 @@
+package com.github.mikhailstepanov88.ignite_meetup.config.properties;
+
+import reactor.util.annotation.Nullable;
+
+import java.util.Objects;
+
+public class IgniteDatabaseAffinity {
+    @Nullable
+    private Boolean enabled;
+    @Nullable
+    private Integer partitions;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor
+     */
+    public IgniteDatabaseAffinity() {}
+    //</editor-fold>
+
+    //<editor-fold desc="getters and setters">
+    @Nullable public Boolean getEnabled() {return enabled;}
+    @Nullable public Integer getPartitions() {return partitions;}
+    public void setEnabled(@Nullable Boolean enabled) {this.enabled = enabled;}
+    public void setPartitions(@Nullable Integer partitions) {this.partitions = partitions;}
+    //</editor-fold>
+
+    //<editor-fold desc="equals and hashCode">
+    @Override
+    public boolean equals(@Nullable Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        IgniteDatabaseAffinity igniteDatabaseAffinity = (IgniteDatabaseAffinity) that;
+        return Objects.equals(enabled, igniteDatabaseAffinity.enabled) &&
+                Objects.equals(partitions, igniteDatabaseAffinity.partitions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, partitions);
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,48 @@
+package com.github.mikhailstepanov88.ignite_meetup.config.properties;
+
+import reactor.util.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class IgniteDatabasePool {
+    @Nullable
+    private Integer connectionsPerNode;
+    @Nullable
+    private Integer queueSize;
+    @Nullable
+    private Duration healthCheckInterval;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor
+     */
+    public IgniteDatabasePool() {}
+    //</editor-fold>
+
+    //<editor-fold desc="getters and setters">
+    @Nullable public Integer getConnectionsPerNode() {return connectionsPerNode;}
+    @Nullable public Integer getQueueSize() {return queueSize;}
+    @Nullable public Duration getHealthCheckInterval() {return healthCheckInterval;}
+    public void setConnectionsPerNode(@Nullable Integer connectionsPerNode) {this.connectionsPerNode = connectionsPerNode;}
+    public void setQueueSize(@Nullable Integer queueSize) {this.queueSize = queueSize;}
+    public void setHealthCheckInterval(@Nullable Duration healthCheckInterval) {this.healthCheckInterval = healthCheckInterval;}
+    //</editor-fold>
+
+    //<editor-fold desc="equals and hashCode">
+    @Override
+    public boolean equals(@Nullable Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        IgniteDatabasePool igniteDatabasePool = (IgniteDatabasePool) that;
+        return Objects.equals(connectionsPerNode, igniteDatabasePool.connectionsPerNode) &&
+                Objects.equals(queueSize, igniteDatabasePool.queueSize) &&
+                Objects.equals(healthCheckInterval, igniteDatabasePool.healthCheckInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(connectionsPerNode, queueSize, healthCheckInterval);
+    }
+    //</editor-fold>
+}
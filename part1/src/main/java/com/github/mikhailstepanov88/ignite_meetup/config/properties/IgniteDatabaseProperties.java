@@ -15,6 +15,10 @@ import java.util.Optional;
 public class IgniteDatabaseProperties {
     @Nullable
     private Collection<IgniteDatabaseNode> remoteNodes;
+    @Nullable
+    private IgniteDatabasePool pool;
+    @Nullable
+    private IgniteDatabaseAffinity affinity;
 
     //<editor-fold desc="constructors">
     /**
@@ -28,7 +32,17 @@ public class IgniteDatabaseProperties {
     public Collection<IgniteDatabaseNode> getRemoteNodes() {
         return Optional.ofNullable(remoteNodes).orElse(new HashSet<>());
     }
+    @NonNull
+    public IgniteDatabasePool getPool() {
+        return Optional.ofNullable(pool).orElse(new IgniteDatabasePool());
+    }
+    @NonNull
+    public IgniteDatabaseAffinity getAffinity() {
+        return Optional.ofNullable(affinity).orElse(new IgniteDatabaseAffinity());
+    }
     public void setRemoteNodes(@Nullable Collection<IgniteDatabaseNode> remoteNodes) {this.remoteNodes = remoteNodes;}
+    public void setPool(@Nullable IgniteDatabasePool pool) {this.pool = pool;}
+    public void setAffinity(@Nullable IgniteDatabaseAffinity affinity) {this.affinity = affinity;}
     //</editor-fold>
 
     //<editor-fold desc="equals and hashCode">
@@ -37,12 +51,14 @@ public class IgniteDatabaseProperties {
         if (this == that) return true;
         if (that == null || getClass() != that.getClass()) return false;
         IgniteDatabaseProperties igniteDatabaseProperties = (IgniteDatabaseProperties) that;
-        return Objects.equals(remoteNodes, igniteDatabaseProperties.remoteNodes);
+        return Objects.equals(remoteNodes, igniteDatabaseProperties.remoteNodes) &&
+                Objects.equals(pool, igniteDatabaseProperties.pool) &&
+                Objects.equals(affinity, igniteDatabaseProperties.affinity);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(remoteNodes);
+        return Objects.hash(remoteNodes, pool, affinity);
     }
     //</editor-fold>
 }
@@ -4,6 +4,7 @@ import com.github.mikhailstepanov88.ignite_meetup.converter.NumberConverter;
 import com.github.mikhailstepanov88.ignite_meetup.converter.PersonConverter;
 import com.github.mikhailstepanov88.ignite_meetup.data.dto.PersonDTO;
 import com.github.mikhailstepanov88.ignite_meetup.service.UserService;
+import org.apache.ignite.client.ClientConnectionException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
@@ -12,6 +13,8 @@ import reactor.util.annotation.NonNull;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 import static java.util.Objects.nonNull;
 import static org.springframework.web.reactive.function.server.ServerResponse.*;
@@ -49,8 +52,8 @@ public class UserHandler {
     public Mono<ServerResponse> handleCreate(@NonNull ServerRequest request) {
         return request.bodyToMono(PersonDTO.class)
                 .filter(it -> nonNull(it.getId()))
-                .map(it -> service.createUser(it.getId(),
-                        personConverter.dtoToEntity(it)))
+                .flatMap(it -> Mono.fromFuture(service.createUser(it.getId(),
+                        personConverter.dtoToEntity(it))))
                 .flatMap(it -> created(request.uriBuilder()
                         .path("/")
                         .path(it.toString())
@@ -68,7 +71,7 @@ public class UserHandler {
     @NonNull
     public Mono<ServerResponse> handleReadById(@NonNull ServerRequest request) {
         return Mono.just(getUserIdFromRequest(request))
-                .map(service::readUserById)
+                .flatMap(it -> Mono.fromFuture(service.readUserById(it)))
                 .flatMap(Mono::justOrEmpty)
                 .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2()))
                 .flatMap(it -> ok().syncBody(it))
@@ -86,8 +89,8 @@ public class UserHandler {
     public Mono<ServerResponse> handleUpdate(@NonNull ServerRequest request) {
         return Mono.just(getUserIdFromRequest(request))
                 .zipWith(request.bodyToMono(PersonDTO.class))
-                .map(it -> service.updateUser(it.getT1(),
-                        personConverter.dtoToEntity(it.getT2())))
+                .flatMap(it -> Mono.fromFuture(service.updateUser(it.getT1(),
+                        personConverter.dtoToEntity(it.getT2()))))
                 .flatMap(Mono::justOrEmpty)
                 .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2()))
                 .flatMap(it -> ok().syncBody(it))
@@ -104,7 +107,7 @@ public class UserHandler {
     @NonNull
     public Mono<ServerResponse> handleDelete(@NonNull ServerRequest request) {
         return Mono.just(getUserIdFromRequest(request))
-                .map(service::deleteUser)
+                .flatMap(it -> Mono.fromFuture(service.deleteUser(it)))
                 .then(noContent().build())
                 .onErrorResume(this::exceptionToResponse);
     }
@@ -131,8 +134,14 @@ public class UserHandler {
      */
     @NonNull
     private Mono<ServerResponse> exceptionToResponse(@NonNull Throwable ex) {
-        if (ex instanceof IllegalArgumentException)
+        if (ex instanceof CompletionException && nonNull(ex.getCause()))
+            return exceptionToResponse(ex.getCause());
+        else if (ex instanceof IllegalArgumentException)
             return badRequest().body(Mono.just(ex.getMessage()), String.class);
+        else if (ex instanceof RejectedExecutionException)
+            return status(503).body(Mono.just("Server is busy"), String.class);
+        else if (ex instanceof ClientConnectionException)
+            return status(503).body(Mono.just("Database is unavailable"), String.class);
         else
             return status(501).body(Mono.just("Something goes wrong"), String.class);
     }
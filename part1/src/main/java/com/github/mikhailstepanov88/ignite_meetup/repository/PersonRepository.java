@@ -1,32 +1,25 @@
 package com.github.mikhailstepanov88.ignite_meetup.repository;
 
+import com.github.mikhailstepanov88.ignite_meetup.client.ThinClientPool;
 import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
-import org.apache.ignite.Ignite;
-import org.apache.ignite.IgniteAtomicSequence;
-import org.apache.ignite.IgniteCache;
-import org.apache.ignite.client.ClientCache;
-import org.apache.ignite.client.IgniteClient;
 import org.springframework.stereotype.Repository;
 import reactor.util.annotation.NonNull;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Repository
 public class PersonRepository {
-    //<editor-fold desc="constants">
-    private static final String CACHE_NAME = "persons";
-    //</editor-fold>
-
-    private final ClientCache<Long, PersonEntity> personsCache;
+    private final ThinClientPool pool;
 
     //<editor-fold desc="constructors">
     /**
      * Constructor.
      *
-     * @param client client to database.
+     * @param pool pool of clients to database.
      */
-    public PersonRepository(@NonNull IgniteClient client) {
-        this.personsCache = client.getOrCreateCache(CACHE_NAME);
+    public PersonRepository(@NonNull ThinClientPool pool) {
+        this.pool = pool;
     }
     //</editor-fold>
 
@@ -37,9 +30,12 @@ public class PersonRepository {
      * @param person person for create.
      * @return identifier of created person.
      */
-    public long createPerson(long id, @NonNull PersonEntity person) {
-        personsCache.put(id, person);
-        return id;
+    @NonNull
+    public CompletableFuture<Long> createPerson(long id, @NonNull PersonEntity person) {
+        return pool.execute(id, true, cache -> {
+            cache.put(id, person);
+            return id;
+        });
     }
 
     /**
@@ -49,8 +45,8 @@ public class PersonRepository {
      * @return person with entered identifier.
      */
     @NonNull
-    public Optional<PersonEntity> readPersonById(long id) {
-        return Optional.ofNullable(personsCache.get(id));
+    public CompletableFuture<Optional<PersonEntity>> readPersonById(long id) {
+        return pool.execute(id, true, cache -> Optional.ofNullable(cache.get(id)));
     }
 
     /**
@@ -60,8 +56,9 @@ public class PersonRepository {
      * @param person updated person.
      * @return operation complete successfully or not.
      */
-    public boolean updatePerson(long id, @NonNull PersonEntity person) {
-        return personsCache.replace(id, person);
+    @NonNull
+    public CompletableFuture<Boolean> updatePerson(long id, @NonNull PersonEntity person) {
+        return pool.execute(id, false, cache -> cache.replace(id, person));
     }
 
     /**
@@ -70,7 +67,8 @@ public class PersonRepository {
      * @param id identifier of person for delete.
      * @return operation complete successfully or not.
      */
-    public boolean deletePerson(long id) {
-        return personsCache.remove(id);
+    @NonNull
+    public CompletableFuture<Boolean> deletePerson(long id) {
+        return pool.execute(id, false, cache -> cache.remove(id));
     }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class UserService {
@@ -31,7 +32,8 @@ public class UserService {
      * @param user user for create.
      * @return identifier of created user.
      */
-    public long createUser(long id, @NonNull PersonEntity user) {
+    @NonNull
+    public CompletableFuture<Long> createUser(long id, @NonNull PersonEntity user) {
         return repository.createPerson(id, user);
     }
 
@@ -42,8 +44,8 @@ public class UserService {
      * @return user by his identifier.
      */
     @NonNull
-    public Optional<Tuple2<Long, PersonEntity>> readUserById(long id) {
-        return repository.readPersonById(id).map(it -> Tuples.of(id, it));
+    public CompletableFuture<Optional<Tuple2<Long, PersonEntity>>> readUserById(long id) {
+        return repository.readPersonById(id).thenApply(person -> person.map(it -> Tuples.of(id, it)));
     }
 
     /**
@@ -54,10 +56,10 @@ public class UserService {
      * @return updated user.
      */
     @NonNull
-    public Optional<Tuple2<Long, PersonEntity>> updateUser(long id, @NonNull PersonEntity user) {
-        return repository.updatePerson(id, user) ?
+    public CompletableFuture<Optional<Tuple2<Long, PersonEntity>>> updateUser(long id, @NonNull PersonEntity user) {
+        return repository.updatePerson(id, user).thenApply(updated -> updated ?
                 Optional.of(Tuples.of(id, user)) :
-                Optional.empty();
+                Optional.empty());
     }
 
     /**
@@ -66,7 +68,8 @@ public class UserService {
      * @param id identifier of user for delete.
      * @return operation complete successfully or not.
      */
-    public boolean deleteUser(long id) {
+    @NonNull
+    public CompletableFuture<Boolean> deleteUser(long id) {
         return repository.deletePerson(id);
     }
 }
\ No newline at end of file
@@ -8,9 +8,11 @@ plugins {
 }
 
 dependencies {
+    compile(project(":offload"))
     compile(group = "org.apache.ignite", name = "ignite-core", version = "2.6.0")
     compile(group = "org.springframework.boot", name = "spring-boot-starter-json")
     compile(group = "org.springframework.boot", name = "spring-boot-starter-webflux")
+    compile(group = "org.springframework.boot", name = "spring-boot-starter-actuator")
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
 }
 
@@ -3,6 +3,7 @@ package com.github.mikhailstepanov88.ignite_meetup.handler;
 import com.github.mikhailstepanov88.ignite_meetup.converter.NumberConverter;
 import com.github.mikhailstepanov88.ignite_meetup.converter.PersonConverter;
 import com.github.mikhailstepanov88.ignite_meetup.data.dto.PersonDTO;
+import com.github.mikhailstepanov88.ignite_meetup.offload.OffloadExecutors;
 import com.github.mikhailstepanov88.ignite_meetup.service.UserService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
@@ -11,6 +12,7 @@ import reactor.core.publisher.Mono;
 import reactor.util.annotation.NonNull;
 
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.springframework.web.reactive.function.server.ServerResponse.*;
 
@@ -19,6 +21,7 @@ public class UserHandler {
     private final UserService service;
     private final NumberConverter numberConverter;
     private final PersonConverter personConverter;
+    private final OffloadExecutors offload;
 
     //<editor-fold desc="constructors">
     /**
@@ -27,13 +30,16 @@ public class UserHandler {
      * @param service         service for working with users.
      * @param numberConverter converter from/to number.
      * @param personConverter converter from/to person data transfer object.
+     * @param offload         executors for blocking operations.
      */
     public UserHandler(@NonNull UserService service,
                        @NonNull NumberConverter numberConverter,
-                       @NonNull PersonConverter personConverter) {
+                       @NonNull PersonConverter personConverter,
+                       @NonNull OffloadExecutors offload) {
         this.service = service;
         this.numberConverter = numberConverter;
         this.personConverter = personConverter;
+        this.offload = offload;
     }
     //</editor-fold>
 
@@ -47,7 +53,7 @@ public class UserHandler {
     public Mono<ServerResponse> handleCreate(@NonNull ServerRequest request) {
         return request.bodyToMono(PersonDTO.class)
                 .map(personConverter::dtoToEntity)
-                .map(service::createUser)
+                .flatMap(it -> offload.write(() -> service.createUser(it)))
                 .flatMap(it -> created(request.uriBuilder()
                         .path("/")
                         .path(it.toString())
@@ -65,7 +71,7 @@ public class UserHandler {
     @NonNull
     public Mono<ServerResponse> handleReadById(@NonNull ServerRequest request) {
         return Mono.just(getUserIdFromRequest(request))
-                .map(service::readUserById)
+                .flatMap(it -> offload.pointRead(() -> service.readUserById(it)))
                 .flatMap(Mono::justOrEmpty)
                 .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2()))
                 .flatMap(it -> ok().syncBody(it))
@@ -83,8 +89,8 @@ public class UserHandler {
     public Mono<ServerResponse> handleUpdate(@NonNull ServerRequest request) {
         return Mono.just(getUserIdFromRequest(request))
                 .zipWith(request.bodyToMono(PersonDTO.class))
-                .map(it -> service.updateUser(it.getT1(),
-                        personConverter.dtoToEntity(it.getT2())))
+                .flatMap(it -> offload.write(() -> service.updateUser(it.getT1(),
+                        personConverter.dtoToEntity(it.getT2()))))
                 .flatMap(Mono::justOrEmpty)
                 .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2()))
                 .flatMap(it -> ok().syncBody(it))
@@ -101,7 +107,7 @@ public class UserHandler {
     @NonNull
     public Mono<ServerResponse> handleDelete(@NonNull ServerRequest request) {
         return Mono.just(getUserIdFromRequest(request))
-                .map(service::deleteUser)
+                .flatMap(it -> offload.write(() -> service.deleteUser(it)))
                 .then(noContent().build())
                 .onErrorResume(this::exceptionToResponse);
     }
@@ -130,6 +136,8 @@ public class UserHandler {
     private Mono<ServerResponse> exceptionToResponse(@NonNull Throwable ex) {
         if (ex instanceof IllegalArgumentException)
             return badRequest().body(Mono.just(ex.getMessage()), String.class);
+        else if (ex instanceof RejectedExecutionException)
+            return status(503).body(Mono.just("Server is busy"), String.class);
         else
             return status(501).body(Mono.just("Something goes wrong"), String.class);
     }
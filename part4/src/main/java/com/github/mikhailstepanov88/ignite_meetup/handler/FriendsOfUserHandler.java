@@ -3,6 +3,7 @@ package com.github.mikhailstepanov88.ignite_meetup.handler;
 import com.github.mikhailstepanov88.ignite_meetup.converter.NumberConverter;
 import com.github.mikhailstepanov88.ignite_meetup.converter.PersonConverter;
 import com.github.mikhailstepanov88.ignite_meetup.data.dto.PersonDTO;
+import com.github.mikhailstepanov88.ignite_meetup.offload.OffloadExecutors;
 import com.github.mikhailstepanov88.ignite_meetup.service.FriendsOfUserService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
@@ -13,6 +14,7 @@ import reactor.util.function.Tuples;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import static java.util.Objects.nonNull;
 import static java.util.function.Function.identity;
@@ -23,6 +25,7 @@ public class FriendsOfUserHandler {
     private final NumberConverter numberConverter;
     private final PersonConverter personConverter;
     private final FriendsOfUserService service;
+    private final OffloadExecutors offload;
 
     //<editor-fold desc="constructors">
     /**
@@ -31,13 +34,16 @@ public class FriendsOfUserHandler {
      * @param numberConverter converter from/to number.
      * @param personConverter converter from/to person data transfer object.
      * @param service         service for working with friends of user.
+     * @param offload         executors for blocking operations.
      */
     public FriendsOfUserHandler(@NonNull NumberConverter numberConverter,
                                 @NonNull PersonConverter personConverter,
-                                @NonNull FriendsOfUserService service) {
+                                @NonNull FriendsOfUserService service,
+                                @NonNull OffloadExecutors offload) {
         this.numberConverter = numberConverter;
         this.personConverter = personConverter;
         this.service = service;
+        this.offload = offload;
     }
     //</editor-fold>
 
@@ -52,7 +58,7 @@ public class FriendsOfUserHandler {
         return Mono.just(getUserIdFromRequest(request))
                 .zipWith(request.bodyToMono(PersonDTO.class))
                 .filter(it -> nonNull(it.getT2().getId()))
-                .map(it -> service.createFriendOfUser(it.getT1(), it.getT2().getId()))
+                .flatMap(it -> offload.write(() -> service.createFriendOfUser(it.getT1(), it.getT2().getId())))
                 .flatMap(Mono::justOrEmpty)
                 .flatMap(it -> created(request.uriBuilder()
                         .path("/")
@@ -72,7 +78,7 @@ public class FriendsOfUserHandler {
     public Mono<ServerResponse> handleReadAll(@NonNull ServerRequest request) {
         return ok().body(
                 Mono.just(getUserIdFromRequest(request))
-                        .map(service::readAllFriendsOfUser)
+                        .flatMap(it -> offload.pointRead(() -> service.readAllFriendsOfUser(it)))
                         .flatMapIterable(identity())
                         .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2())),
                 PersonDTO.class
@@ -88,7 +94,7 @@ public class FriendsOfUserHandler {
     @NonNull
     public Mono<ServerResponse> handleReadById(@NonNull ServerRequest request) {
         return Mono.just(Tuples.of(getUserIdFromRequest(request), getFriendIdFromRequest(request)))
-                .map(it -> service.readFriendOfUserById(it.getT1(), it.getT2()))
+                .flatMap(it -> offload.pointRead(() -> service.readFriendOfUserById(it.getT1(), it.getT2())))
                 .flatMap(Mono::justOrEmpty)
                 .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2()))
                 .flatMap(it -> ok().syncBody(it))
@@ -105,7 +111,7 @@ public class FriendsOfUserHandler {
     @NonNull
     public Mono<ServerResponse> handleDelete(@NonNull ServerRequest request) {
         return Mono.just(Tuples.of(getUserIdFromRequest(request), getFriendIdFromRequest(request)))
-                .map(it -> service.deleteFriendOfUser(it.getT1(), it.getT2()))
+                .flatMap(it -> offload.write(() -> service.deleteFriendOfUser(it.getT1(), it.getT2())))
                 .then(noContent().build())
                 .onErrorResume(this::exceptionToResponse);
     }
@@ -147,6 +153,8 @@ public class FriendsOfUserHandler {
     private Mono<ServerResponse> exceptionToResponse(@NonNull Throwable ex) {
         if (ex instanceof IllegalArgumentException)
             return badRequest().body(Mono.just(ex.getMessage()), String.class);
+        else if (ex instanceof RejectedExecutionException)
+            return status(503).body(Mono.just("Server is busy"), String.class);
         else
             return status(501).body(Mono.just("Something goes wrong"), String.class);
     }
@@ -4,17 +4,19 @@ import com.github.mikhailstepanov88.ignite_meetup.converter.NumberConverter;
 import com.github.mikhailstepanov88.ignite_meetup.converter.PersonConverter;
 import com.github.mikhailstepanov88.ignite_meetup.data.dto.PersonDTO;
 import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
+import com.github.mikhailstepanov88.ignite_meetup.offload.OffloadExecutors;
 import com.github.mikhailstepanov88.ignite_meetup.service.UserService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.annotation.NonNull;
 import reactor.util.function.Tuple2;
 
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
+import static java.util.function.Function.identity;
 import static org.springframework.web.reactive.function.server.ServerResponse.*;
 
 @Component
@@ -22,6 +24,7 @@ public class UserHandler {
     private final UserService service;
     private final NumberConverter numberConverter;
     private final PersonConverter personConverter;
+    private final OffloadExecutors offload;
 
     //<editor-fold desc="constructors">
     /**
@@ -30,13 +33,16 @@ public class UserHandler {
      * @param service         service for working with users.
      * @param numberConverter converter from/to number.
      * @param personConverter converter from/to person data transfer object.
+     * @param offload         executors for blocking operations.
      */
     public UserHandler(@NonNull UserService service,
                        @NonNull NumberConverter numberConverter,
-                       @NonNull PersonConverter personConverter) {
+                       @NonNull PersonConverter personConverter,
+                       @NonNull OffloadExecutors offload) {
         this.service = service;
         this.numberConverter = numberConverter;
         this.personConverter = personConverter;
+        this.offload = offload;
     }
     //</editor-fold>
 
@@ -50,7 +56,7 @@ public class UserHandler {
     public Mono<ServerResponse> handleCreate(@NonNull ServerRequest request) {
         return request.bodyToMono(PersonDTO.class)
                 .map(personConverter::dtoToEntity)
-                .map(service::createUser)
+                .flatMap(it -> offload.write(() -> service.createUser(it)))
                 .flatMap(it -> created(request.uriBuilder()
                         .path("/")
                         .path(it.toString())
@@ -68,10 +74,10 @@ public class UserHandler {
     @NonNull
     public Mono<ServerResponse> handleReadAll(@NonNull ServerRequest request) {
         return ok().body(
-                Flux.fromIterable(service.readAllUsersByQuery(
+                offload.scan(() -> service.readAllUsersByQuery(
                         getFirstNameFromRequest(request).orElse(null),
                         getLastNameFromRequest(request).orElse(null)
-                )).map(this::getUserWithFriends),
+                )).flatMapIterable(identity()).map(this::getUserWithFriends),
                 PersonDTO.class
         ).onErrorResume(this::exceptionToResponse);
     }
@@ -85,7 +91,7 @@ public class UserHandler {
     @NonNull
     public Mono<ServerResponse> handleReadById(@NonNull ServerRequest request) {
         return Mono.just(getUserIdFromRequest(request))
-                .map(service::readUserById)
+                .flatMap(it -> offload.pointRead(() -> service.readUserById(it)))
                 .flatMap(Mono::justOrEmpty)
                 .map(this::getUserWithFriends)
                 .flatMap(it -> ok().syncBody(it))
@@ -103,8 +109,8 @@ public class UserHandler {
     public Mono<ServerResponse> handleUpdate(@NonNull ServerRequest request) {
         return Mono.just(getUserIdFromRequest(request))
                 .zipWith(request.bodyToMono(PersonDTO.class))
-                .map(it -> service.updateUser(it.getT1(),
-                        personConverter.dtoToEntity(it.getT2())))
+                .flatMap(it -> offload.write(() -> service.updateUser(it.getT1(),
+                        personConverter.dtoToEntity(it.getT2()))))
                 .flatMap(Mono::justOrEmpty)
                 .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2()))
                 .flatMap(it -> ok().syncBody(it))
@@ -121,7 +127,7 @@ public class UserHandler {
     @NonNull
     public Mono<ServerResponse> handleDelete(@NonNull ServerRequest request) {
         return Mono.just(getUserIdFromRequest(request))
-                .map(service::deleteUser)
+                .flatMap(it -> offload.write(() -> service.deleteUser(it)))
                 .then(noContent().build())
                 .onErrorResume(this::exceptionToResponse);
     }
@@ -184,6 +190,8 @@ public class UserHandler {
     private Mono<ServerResponse> exceptionToResponse(@NonNull Throwable ex) {
         if (ex instanceof IllegalArgumentException)
             return badRequest().body(Mono.just(ex.getMessage()), String.class);
+        else if (ex instanceof RejectedExecutionException)
+            return status(503).body(Mono.just("Server is busy"), String.class);
         else
             return status(501).body(Mono.just("Something goes wrong"), String.class);
     }
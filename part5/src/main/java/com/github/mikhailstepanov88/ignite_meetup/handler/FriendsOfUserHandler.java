@@ -3,6 +3,7 @@ package com.github.mikhailstepanov88.ignite_meetup.handler;
 import com.github.mikhailstepanov88.ignite_meetup.converter.NumberConverter;
 import com.github.mikhailstepanov88.ignite_meetup.converter.PersonConverter;
 import com.github.mikhailstepanov88.ignite_meetup.data.dto.PersonDTO;
+import com.github.mikhailstepanov88.ignite_meetup.offload.OffloadExecutors;
 import com.github.mikhailstepanov88.ignite_meetup.service.FriendsOfUserService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
@@ -12,6 +13,7 @@ import reactor.util.annotation.NonNull;
 import reactor.util.function.Tuples;
 
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import static java.util.Objects.nonNull;
 import static java.util.function.Function.identity;
@@ -22,6 +24,7 @@ public class FriendsOfUserHandler {
     private final NumberConverter numberConverter;
     private final PersonConverter personConverter;
     private final FriendsOfUserService service;
+    private final OffloadExecutors offload;
 
     //<editor-fold desc="constructors">
     /**
@@ -30,13 +33,16 @@ public class FriendsOfUserHandler {
      * @param numberConverter converter from/to number.
      * @param personConverter converter from/to person data transfer object.
      * @param service         service for working with friends of user.
+     * @param offload         executors for blocking operations.
      */
     public FriendsOfUserHandler(@NonNull NumberConverter numberConverter,
                                 @NonNull PersonConverter personConverter,
-                                @NonNull FriendsOfUserService service) {
+                                @NonNull FriendsOfUserService service,
+                                @NonNull OffloadExecutors offload) {
         this.numberConverter = numberConverter;
         this.personConverter = personConverter;
         this.service = service;
+        this.offload = offload;
     }
     //</editor-fold>
 
@@ -51,7 +57,7 @@ public class FriendsOfUserHandler {
         return Mono.just(getUserIdFromRequest(request))
                 .zipWith(request.bodyToMono(PersonDTO.class))
                 .filter(it -> nonNull(it.getT2().getId()))
-                .map(it -> service.createFriendOfUser(it.getT1(), it.getT2().getId()))
+                .flatMap(it -> offload.write(() -> service.createFriendOfUser(it.getT1(), it.getT2().getId())))
                 .flatMap(Mono::justOrEmpty)
                 .flatMap(it -> created(request.uriBuilder()
                         .path("/")
@@ -71,7 +77,7 @@ public class FriendsOfUserHandler {
     public Mono<ServerResponse> handleReadAll(@NonNull ServerRequest request) {
         return ok().body(
                 Mono.just(getUserIdFromRequest(request))
-                        .map(service::readAllFriendsOfUser)
+                        .flatMap(it -> offload.pointRead(() -> service.readAllFriendsOfUser(it)))
                         .flatMapIterable(identity())
                         .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2())),
                 PersonDTO.class
@@ -87,7 +93,7 @@ public class FriendsOfUserHandler {
     @NonNull
     public Mono<ServerResponse> handleReadById(@NonNull ServerRequest request) {
         return Mono.just(Tuples.of(getUserIdFromRequest(request), getFriendIdFromRequest(request)))
-                .map(it -> service.readFriendOfUserById(it.getT1(), it.getT2()))
+                .flatMap(it -> offload.pointRead(() -> service.readFriendOfUserById(it.getT1(), it.getT2())))
                 .flatMap(Mono::justOrEmpty)
                 .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2()))
                 .flatMap(it -> ok().syncBody(it))
@@ -104,7 +110,7 @@ public class FriendsOfUserHandler {
     @NonNull
     public Mono<ServerResponse> handleDelete(@NonNull ServerRequest request) {
         return Mono.just(Tuples.of(getUserIdFromRequest(request), getFriendIdFromRequest(request)))
-                .map(it -> service.deleteFriendOfUser(it.getT1(), it.getT2()))
+                .flatMap(it -> offload.write(() -> service.deleteFriendOfUser(it.getT1(), it.getT2())))
                 .then(noContent().build())
                 .onErrorResume(this::exceptionToResponse);
     }
@@ -146,6 +152,8 @@ public class FriendsOfUserHandler {
     private Mono<ServerResponse> exceptionToResponse(@NonNull Throwable ex) {
         if (ex instanceof IllegalArgumentException)
             return badRequest().body(Mono.just(ex.getMessage()), String.class);
+        else if (ex instanceof RejectedExecutionException)
+            return status(503).body(Mono.just("Server is busy"), String.class);
         else
             return status(501).body(Mono.just("Something goes wrong"), String.class);
     }
@@ -10,10 +10,20 @@ plugins {
 dependencies {
     compile(group = "org.apache.ignite", name = "ignite-core", version = "2.6.0")
     compile(group = "org.springframework.boot", name = "spring-boot-starter-json")
+    compile(group = "com.fasterxml.jackson.dataformat", name = "jackson-dataformat-smile")
+    compile(group = "com.fasterxml.jackson.dataformat", name = "jackson-dataformat-cbor")
     compile(group = "org.springframework.boot", name = "spring-boot-starter-webflux")
+    compile(group = "org.springframework.boot", name = "spring-boot-starter-actuator")
+    compile(group = "io.micrometer", name = "micrometer-registry-prometheus")
+    compile(group = "io.projectreactor.tools", name = "blockhound", version = "1.0.8.RELEASE")
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
+    testCompile(group = "org.springframework.boot", name = "spring-boot-starter-test")
 }
 
 springBoot {
     mainClassName = "com.github.mikhailstepanov88.ignite_meetup.IgniteMeetupApplication"
+}
+
+tasks.getByName<Jar>("jar") {
+    enabled = true
 }
\ No newline at end of file
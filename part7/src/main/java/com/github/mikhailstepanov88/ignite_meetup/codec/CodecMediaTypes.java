@@ -0,0 +1,17 @@
+package com.github.mikhailstepanov88.ignite_meetup.codec;
+
+import org.springframework.http.MediaType;
+
+public final class CodecMediaTypes {
+    //<editor-fold desc="constants">
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+    public static final MediaType APPLICATION_CBOR = new MediaType("application", "cbor");
+    //</editor-fold>
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     */
+    private CodecMediaTypes() {}
+    //</editor-fold>
+}
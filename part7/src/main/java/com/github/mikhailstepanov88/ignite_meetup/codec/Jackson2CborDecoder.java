@@ -0,0 +1,131 @@
+package com.github.mikhailstepanov88.ignite_meetup.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.json.AbstractJackson2Decoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.mikhailstepanov88.ignite_meetup.codec.CodecMediaTypes.APPLICATION_CBOR;
+
+public class Jackson2CborDecoder extends AbstractJackson2Decoder {
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param objectMapper mapper of CBOR.
+     */
+    public Jackson2CborDecoder(@NonNull ObjectMapper objectMapper) {
+        super(objectMapper, APPLICATION_CBOR);
+    }
+    //</editor-fold>
+
+    /**
+     * Decode stream of values. The body is joined before decoding,
+     * because CBOR parser of Jackson can't parse input by chunks.
+     * Root array of the body is unwrapped to its elements.
+     */
+    @NonNull
+    @Override
+    public Flux<Object> decode(@NonNull Publisher<DataBuffer> input,
+                               @NonNull ResolvableType elementType,
+                               @Nullable MimeType mimeType,
+                               @Nullable Map<String, Object> hints) {
+        return DataBufferUtils.join(input)
+                .flatMapIterable(buffer -> readValues(buffer, elementType));
+    }
+
+    /**
+     * Decode single value. The body is joined before decoding,
+     * because CBOR parser of Jackson can't parse input by chunks.
+     */
+    @NonNull
+    @Override
+    public Mono<Object> decodeToMono(@NonNull Publisher<DataBuffer> input,
+                                     @NonNull ResolvableType elementType,
+                                     @Nullable MimeType mimeType,
+                                     @Nullable Map<String, Object> hints) {
+        return DataBufferUtils.join(input)
+                .map(buffer -> readValue(buffer, elementType));
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Read single value from buffer and release it.
+     *
+     * @param buffer      buffer for read.
+     * @param elementType type of value.
+     * @return read value.
+     */
+    @NonNull
+    private Object readValue(@NonNull DataBuffer buffer, @NonNull ResolvableType elementType) {
+        try {
+            return readerFor(elementType).readValue(buffer.asInputStream());
+        } catch (final IOException ex) {
+            throw processException(ex);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * Read all values from buffer and release it.
+     *
+     * @param buffer      buffer for read.
+     * @param elementType type of values.
+     * @return read values.
+     */
+    @NonNull
+    private List<Object> readValues(@NonNull DataBuffer buffer, @NonNull ResolvableType elementType) {
+        try {
+            return readerFor(elementType).readValues(buffer.asInputStream()).readAll();
+        } catch (final IOException ex) {
+            throw processException(ex);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * Get reader of values with entered type.
+     *
+     * @param elementType type of values.
+     * @return reader of values.
+     */
+    @NonNull
+    private ObjectReader readerFor(@NonNull ResolvableType elementType) {
+        ObjectMapper objectMapper = getObjectMapper();
+        return objectMapper.readerFor(objectMapper.getTypeFactory().constructType(elementType.getType()));
+    }
+
+    /**
+     * Convert exception of Jackson to exception of codec.
+     *
+     * @param ex exception for convert.
+     * @return converted exception.
+     */
+    @NonNull
+    private CodecException processException(@NonNull IOException ex) {
+        if (ex instanceof InvalidDefinitionException)
+            return new CodecException("Type definition error: " + ((InvalidDefinitionException) ex).getType(), ex);
+        if (ex instanceof JsonProcessingException)
+            return new DecodingException("CBOR decoding error: " + ((JsonProcessingException) ex).getOriginalMessage(), ex);
+        return new DecodingException("I/O error while parsing input stream", ex);
+    }
+    //</editor-fold>
+}
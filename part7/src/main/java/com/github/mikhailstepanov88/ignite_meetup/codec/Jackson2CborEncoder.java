@@ -0,0 +1,20 @@
+package com.github.mikhailstepanov88.ignite_meetup.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import reactor.util.annotation.NonNull;
+
+import static com.github.mikhailstepanov88.ignite_meetup.codec.CodecMediaTypes.APPLICATION_CBOR;
+
+public class Jackson2CborEncoder extends AbstractJackson2Encoder {
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param objectMapper mapper of CBOR.
+     */
+    public Jackson2CborEncoder(@NonNull ObjectMapper objectMapper) {
+        super(objectMapper, APPLICATION_CBOR);
+    }
+    //</editor-fold>
+}
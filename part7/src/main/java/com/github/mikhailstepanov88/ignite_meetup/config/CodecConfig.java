@@ -0,0 +1,64 @@
+package com.github.mikhailstepanov88.ignite_meetup.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mikhailstepanov88.ignite_meetup.codec.Jackson2CborDecoder;
+import com.github.mikhailstepanov88.ignite_meetup.codec.Jackson2CborEncoder;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.util.annotation.NonNull;
+
+import java.util.List;
+
+import static com.github.mikhailstepanov88.ignite_meetup.codec.CodecMediaTypes.APPLICATION_SMILE;
+
+@Configuration
+public class CodecConfig implements WebFluxConfigurer {
+    private final List<Jackson2ObjectMapperBuilderCustomizer> customizers;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param customizers customizers of object mappers configured by application properties.
+     */
+    public CodecConfig(@NonNull List<Jackson2ObjectMapperBuilderCustomizer> customizers) {
+        this.customizers = customizers;
+    }
+    //</editor-fold>
+
+    /**
+     * Register Smile and CBOR codecs.
+     *
+     * @param configurer configurer of codecs.
+     */
+    @Override
+    public void configureHttpMessageCodecs(@NonNull ServerCodecConfigurer configurer) {
+        ObjectMapper smileMapper = objectMapper(Jackson2ObjectMapperBuilder.smile());
+        ObjectMapper cborMapper = objectMapper(Jackson2ObjectMapperBuilder.cbor());
+
+        configurer.customCodecs().decoder(new Jackson2SmileDecoder(smileMapper, APPLICATION_SMILE));
+        configurer.customCodecs().encoder(new Jackson2SmileEncoder(smileMapper, APPLICATION_SMILE));
+        configurer.customCodecs().decoder(new Jackson2CborDecoder(cborMapper));
+        configurer.customCodecs().encoder(new Jackson2CborEncoder(cborMapper));
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Build object mapper with the same settings as object mapper of JSON.
+     * Own builder is used, so shared builder of application isn't changed.
+     *
+     * @param builder builder of object mapper for binary format.
+     * @return object mapper.
+     */
+    @NonNull
+    private ObjectMapper objectMapper(@NonNull Jackson2ObjectMapperBuilder builder) {
+        customizers.forEach(customizer -> customizer.customize(builder));
+        return builder.build();
+    }
+    //</editor-fold>
+}
\ No newline at end of file
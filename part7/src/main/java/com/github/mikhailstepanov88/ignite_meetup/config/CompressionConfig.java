@@ -0,0 +1,30 @@
+package com.github.mikhailstepanov88.ignite_meetup.config;
+
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.util.annotation.NonNull;
+
+@Configuration
+public class CompressionConfig {
+    /**
+     * Get customizer that enables gzip/deflate compression of responses.
+     * Reactor Netty chooses the encoding by "Accept-Encoding" header of request
+     * and compresses only responses larger than minimal size.
+     *
+     * @param properties properties of web server.
+     * @return customizer of web server.
+     */
+    @Bean
+    @NonNull
+    public WebServerFactoryCustomizer<NettyReactiveWebServerFactory> compressionCustomizer(@NonNull ServerProperties properties) {
+        return factory -> {
+            Compression compression = properties.getCompression();
+            if (compression.getEnabled())
+                factory.addServerCustomizers(builder -> builder.compression(compression.getMinResponseSize()));
+        };
+    }
+}
@@ -1,24 +1,72 @@
 package com.github.mikhailstepanov88.ignite_meetup.config;
 
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseCache;
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabasePersistence;
 import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseProperties;
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseRegion;
+import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
+import com.github.mikhailstepanov88.ignite_meetup.repository.IgniteActivation;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.Ignition;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheMode;
+import org.apache.ignite.cache.CacheWriteSynchronizationMode;
+import org.apache.ignite.cache.PartitionLossPolicy;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cache.eviction.lru.LruEvictionPolicyFactory;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.configuration.AtomicConfiguration;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataPageEvictionMode;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
 import org.apache.ignite.spi.discovery.DiscoverySpi;
 import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
 import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
 
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 @Configuration
 public class IgniteDatabaseConfig {
+    //<editor-fold desc="constants">
+    private static final String CLIENT_MODE = "client";
+    private static final String SERVER_MODE = "server";
+    private static final String CACHE_NAME = "persons";
+    private static final int DEFAULT_PARTITIONS = 1024;
+    private static final int DEFAULT_BACKUPS = 1;
+    private static final CacheAtomicityMode DEFAULT_ATOMICITY_MODE = CacheAtomicityMode.TRANSACTIONAL;
+    private static final CacheWriteSynchronizationMode DEFAULT_WRITE_SYNCHRONIZATION_MODE = CacheWriteSynchronizationMode.PRIMARY_SYNC;
+    private static final int DEFAULT_REBALANCE_BATCH_SIZE = 512 * 1024;
+    private static final int DEFAULT_ONHEAP_CACHE_MAX_SIZE = 100_000;
+    private static final long DEFAULT_REGION_INITIAL_SIZE = 256L * 1024 * 1024;
+    private static final long DEFAULT_REGION_MAX_SIZE = 1024L * 1024 * 1024;
+    private static final DataPageEvictionMode DEFAULT_EVICTION_MODE = DataPageEvictionMode.RANDOM_2_LRU;
+    private static final WALMode DEFAULT_WAL_MODE = WALMode.LOG_ONLY;
+    private static final Duration DEFAULT_CHECKPOINT_FREQUENCY = Duration.ofMinutes(3);
+    private static final int DEFAULT_PAGE_SIZE = 4 * 1024;
+    private static final Logger LOGGER = LoggerFactory.getLogger(IgniteDatabaseConfig.class);
+    //</editor-fold>
+
     /**
      * Get client of Ignite.
+     * In server mode the application hosts server node of Ignite with cache of persons,
+     * so persons stored on this node are read without network hops.
+     * Persistent cluster starts inactive and activation fixes its baseline topology to nodes joined by this moment,
+     * so it is activated only by server node with enabled auto activation, otherwise it is activated by control.sh.
      *
      * @param properties properties of Ignite database.
      * @return client of Ignite.
@@ -26,7 +74,34 @@ public class IgniteDatabaseConfig {
     @NonNull
     @Bean(destroyMethod = "close")
     public Ignite igniteClient(@NonNull IgniteDatabaseProperties properties) {
-        return Ignition.start(igniteConfiguration(properties));
+        Ignite client = Ignition.start(igniteConfiguration(properties));
+        IgniteDatabasePersistence persistence = properties.getPersistence();
+        if (!client.cluster().localNode().isClient() &&
+                Optional.ofNullable(persistence.getEnabled()).orElse(false) &&
+                Optional.ofNullable(persistence.getAutoActivate()).orElse(false) &&
+                !client.cluster().active()) {
+            client.cluster().active(true);
+            LOGGER.info("Persistent cluster is activated with baseline of nodes {}", client.cluster().forServers().nodes()
+                    .stream()
+                    .map(ClusterNode::consistentId)
+                    .collect(Collectors.toList()));
+        }
+        return client;
+    }
+
+    /**
+     * Get activation of Ignite cluster.
+     * Cache of persons is checked on activation of cluster, in client mode it is created if it doesn't exist yet.
+     *
+     * @param client     client of Ignite.
+     * @param properties properties of Ignite database.
+     * @return activation of Ignite cluster.
+     */
+    @Bean
+    @NonNull
+    public IgniteActivation igniteActivation(@NonNull Ignite client, @NonNull IgniteDatabaseProperties properties) {
+        CacheConfiguration<Long, PersonEntity> personsCache = personsCacheConfiguration(properties.getCache());
+        return new IgniteActivation(client, it -> checkPersonsCache(it, personsCache));
     }
 
     //<editor-fold desc="private additional methods">
@@ -41,11 +116,143 @@ public class IgniteDatabaseConfig {
         requireNonNull(properties.getLocalNode());
         requireNonNull(properties.getLocalNode().getName());
 
-        return new IgniteConfiguration()
-                .setClientMode(true)
+        String mode = Optional.ofNullable(properties.getMode()).orElse(CLIENT_MODE);
+        if (!CLIENT_MODE.equals(mode) && !SERVER_MODE.equals(mode))
+            throw new IllegalArgumentException("Database mode \"" + mode + "\" is not supported");
+
+        IgniteConfiguration configuration = new IgniteConfiguration()
+                .setClientMode(CLIENT_MODE.equals(mode))
                 .setPeerClassLoadingEnabled(true)
                 .setDiscoverySpi(igniteDiscoveryConfiguration(properties))
                 .setIgniteInstanceName(properties.getLocalNode().getName());
+        if (CLIENT_MODE.equals(mode)) return configuration;
+
+        return configuration
+                .setDataStorageConfiguration(dataStorageConfiguration(properties))
+                .setConsistentId(properties.getLocalNode().getName())
+                .setAtomicConfiguration(new AtomicConfiguration()
+                        .setAtomicSequenceReserveSize(1000)
+                        .setCacheMode(CacheMode.PARTITIONED)
+                        .setBackups(1))
+                .setCacheConfiguration(personsCacheConfiguration(properties.getCache()));
+    }
+
+    /**
+     * Get configuration of data storage of server node.
+     * With persistence the default region is persistent too, because it holds sequence of persons identifiers.
+     *
+     * @param properties properties of Ignite database.
+     * @return configuration of data storage.
+     */
+    @NonNull
+    private DataStorageConfiguration dataStorageConfiguration(@NonNull IgniteDatabaseProperties properties) {
+        IgniteDatabasePersistence persistence = properties.getPersistence();
+        boolean persistenceEnabled = Optional.ofNullable(persistence.getEnabled()).orElse(false);
+
+        DataStorageConfiguration storage = new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                        .setName(DataStorageConfiguration.DFLT_DATA_REG_DEFAULT_NAME)
+                        .setPersistenceEnabled(persistenceEnabled));
+        if (nonNull(properties.getDataRegion().getName()))
+            storage.setDataRegionConfigurations(dataRegionConfiguration(properties.getDataRegion(), persistenceEnabled));
+        if (!persistenceEnabled) return storage;
+
+        return storage
+                .setStoragePath(persistence.getStoragePath())
+                .setWalMode(Optional.ofNullable(persistence.getWalMode()).orElse(DEFAULT_WAL_MODE))
+                .setCheckpointFrequency(Optional.ofNullable(persistence.getCheckpointFrequency())
+                        .orElse(DEFAULT_CHECKPOINT_FREQUENCY)
+                        .toMillis())
+                .setPageSize(Optional.ofNullable(persistence.getPageSize()).orElse(DEFAULT_PAGE_SIZE));
+    }
+
+    /**
+     * Get configuration of data region of persons.
+     * Region is limited by its max size, cold pages are evicted when it is full instead of failing with out of memory.
+     * Persistent region replaces cold pages by pages from disk instead of eviction.
+     *
+     * @param region             properties of data region.
+     * @param persistenceEnabled region is persistent or not.
+     * @return configuration of data region.
+     */
+    @NonNull
+    private DataRegionConfiguration dataRegionConfiguration(@NonNull IgniteDatabaseRegion region, boolean persistenceEnabled) {
+        return new DataRegionConfiguration()
+                .setName(region.getName())
+                .setInitialSize(Optional.ofNullable(region.getInitialSize()).orElse(DEFAULT_REGION_INITIAL_SIZE))
+                .setMaxSize(Optional.ofNullable(region.getMaxSize()).orElse(DEFAULT_REGION_MAX_SIZE))
+                .setPersistenceEnabled(persistenceEnabled)
+                .setPageEvictionMode(persistenceEnabled
+                        ? DataPageEvictionMode.DISABLED
+                        : Optional.ofNullable(region.getEvictionMode()).orElse(DEFAULT_EVICTION_MODE))
+                .setMetricsEnabled(Optional.ofNullable(region.getMetricsEnabled()).orElse(true));
+    }
+
+    /**
+     * Get configuration of cache of persons.
+     * Backups are read locally too, so single node or node with all backups doesn't read persons over network.
+     * On-heap layer keeps hot persons deserialized and is limited by LRU eviction.
+     *
+     * @param cache properties of cache of persons.
+     * @return configuration of cache of persons.
+     */
+    @NonNull
+    private CacheConfiguration<Long, PersonEntity> personsCacheConfiguration(@NonNull IgniteDatabaseCache cache) {
+        boolean onheapCacheEnabled = Optional.ofNullable(cache.getOnheapCacheEnabled()).orElse(false);
+        return new CacheConfiguration<Long, PersonEntity>(CACHE_NAME)
+                .setCacheMode(CacheMode.PARTITIONED)
+                .setAffinity(new RendezvousAffinityFunction(false,
+                        Optional.ofNullable(cache.getPartitions()).orElse(DEFAULT_PARTITIONS)))
+                .setBackups(Optional.ofNullable(cache.getBackups()).orElse(DEFAULT_BACKUPS))
+                .setReadFromBackup(true)
+                .setAtomicityMode(Optional.ofNullable(cache.getAtomicityMode()).orElse(DEFAULT_ATOMICITY_MODE))
+                .setPartitionLossPolicy(PartitionLossPolicy.READ_WRITE_SAFE)
+                .setWriteSynchronizationMode(Optional.ofNullable(cache.getWriteSynchronizationMode())
+                        .orElse(DEFAULT_WRITE_SYNCHRONIZATION_MODE))
+                .setOnheapCacheEnabled(onheapCacheEnabled)
+                .setEvictionPolicyFactory(onheapCacheEnabled
+                        ? new LruEvictionPolicyFactory<Long, PersonEntity>(Optional.ofNullable(cache.getOnheapCacheMaxSize())
+                                .orElse(DEFAULT_ONHEAP_CACHE_MAX_SIZE))
+                        : null)
+                .setCopyOnRead(Optional.ofNullable(cache.getCopyOnRead()).orElse(true))
+                .setDataRegionName(cache.getDataRegion())
+                .setRebalanceBatchSize(Optional.ofNullable(cache.getRebalanceBatchSize())
+                        .orElse(DEFAULT_REBALANCE_BATCH_SIZE))
+                .setStatisticsEnabled(true);
+    }
+
+    /**
+     * Create cache of persons if it doesn't exist and report settings of existing cache that differ from configured ones.
+     * Settings of existing cache can't be changed without its recreation.
+     *
+     * @param client   client of Ignite.
+     * @param expected configuration of cache of persons.
+     */
+    @SuppressWarnings("unchecked")
+    private void checkPersonsCache(@NonNull Ignite client, @NonNull CacheConfiguration<Long, PersonEntity> expected) {
+        CacheConfiguration<Long, PersonEntity> actual = client.getOrCreateCache(expected)
+                .getConfiguration(CacheConfiguration.class);
+        checkPersonsCacheSetting("partitions", expected.getAffinity().partitions(), actual.getAffinity().partitions());
+        checkPersonsCacheSetting("backups", expected.getBackups(), actual.getBackups());
+        checkPersonsCacheSetting("atomicity mode", expected.getAtomicityMode(), actual.getAtomicityMode());
+        checkPersonsCacheSetting("write synchronization mode",
+                expected.getWriteSynchronizationMode(), actual.getWriteSynchronizationMode());
+        checkPersonsCacheSetting("on-heap caching", expected.isOnheapCacheEnabled(), actual.isOnheapCacheEnabled());
+        checkPersonsCacheSetting("copy on read", expected.isCopyOnRead(), actual.isCopyOnRead());
+        checkPersonsCacheSetting("data region", expected.getDataRegionName(), actual.getDataRegionName());
+        checkPersonsCacheSetting("rebalance batch size", expected.getRebalanceBatchSize(), actual.getRebalanceBatchSize());
+    }
+
+    /**
+     * Report setting of existing cache of persons that differs from configured one.
+     *
+     * @param name     name of setting.
+     * @param expected configured value of setting.
+     * @param actual   value of setting of existing cache.
+     */
+    private void checkPersonsCacheSetting(@NonNull String name, @Nullable Object expected, @Nullable Object actual) {
+        if (!Objects.equals(expected, actual))
+            LOGGER.warn("Cache {} has {} {} instead of configured {}", CACHE_NAME, name, actual, expected);
     }
 
     /**
@@ -1,36 +1,49 @@
 package com.github.mikhailstepanov88.ignite_meetup.config;
 
+import com.github.mikhailstepanov88.ignite_meetup.converter.NumberConverter;
+import com.github.mikhailstepanov88.ignite_meetup.diagnostics.RequestTraceFilter;
 import com.github.mikhailstepanov88.ignite_meetup.handler.Handler;
 import com.github.mikhailstepanov88.ignite_meetup.matcher.Matcher;
+import com.github.mikhailstepanov88.ignite_meetup.matcher.RouteTable;
+import com.github.mikhailstepanov88.ignite_meetup.metrics.RouteMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.util.annotation.NonNull;
 
-import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+import static org.springframework.http.HttpMethod.*;
 
 @Configuration
 public class RoutingConfig {
     /**
      * Get function for routing.
      *
-     * @param matcher matcher of all operations.
-     * @param handler handler of all operations.
+     * @param matcher         matcher of all operations.
+     * @param handler         handler of all operations.
+     * @param numberConverter converter from/to number.
+     * @param routeMetrics    metrics of routes.
+     * @param requestTrace    filter of request tracing.
      * @return function for routing.
      */
     @Bean
     @NonNull
     public RouterFunction<ServerResponse> routerFunction(@NonNull Matcher matcher,
-                                                         @NonNull Handler handler) {
-        return route(matcher::matchCreateUser, handler::handleCreateUser)
-                .andRoute(matcher::matchReadAllUsers, handler::handleReadAllUsers)
-                .andRoute(matcher::matchReadUserById, handler::handleReadUserById)
-                .andRoute(matcher::matchUpdateUser, handler::handleUpdateUser)
-                .andRoute(matcher::matchDeleteUser, handler::handleDeleteUser)
-                .andRoute(matcher::matchCreateFriendOfUser, handler::handleCreateFriendOfUser)
-                .andRoute(matcher::matchReadAllFriendsOfUser, handler::handleReadAllFriendsOfUser)
-                .andRoute(matcher::matchReadFriendOfUserById, handler::handleReadFriendOfUserById)
-                .andRoute(matcher::matchDeleteFriendOfUser, handler::handleDeleteFriendOfUser);
+                                                         @NonNull Handler handler,
+                                                         @NonNull NumberConverter numberConverter,
+                                                         @NonNull RouteMetrics routeMetrics,
+                                                         @NonNull RequestTraceFilter requestTrace) {
+        return new RouteTable(numberConverter)
+                .add(POST, "/users", matcher::matchCreateUser, handler::handleCreateUser)
+                .add(GET, "/users", matcher::matchReadAllUsers, handler::handleReadAllUsers)
+                .add(GET, "/users/{userId}", matcher::matchReadUserById, handler::handleReadUserById)
+                .add(PUT, "/users/{userId}", matcher::matchUpdateUser, handler::handleUpdateUser)
+                .add(DELETE, "/users/{userId}", matcher::matchDeleteUser, handler::handleDeleteUser)
+                .add(POST, "/users/{userId}/friends", matcher::matchCreateFriendOfUser, handler::handleCreateFriendOfUser)
+                .add(GET, "/users/{userId}/friends", matcher::matchReadAllFriendsOfUser, handler::handleReadAllFriendsOfUser)
+                .add(GET, "/users/{userId}/friends/{friendId}", matcher::matchReadFriendOfUserById, handler::handleReadFriendOfUserById)
+                .add(DELETE, "/users/{userId}/friends/{friendId}", matcher::matchDeleteFriendOfUser, handler::handleDeleteFriendOfUser)
+                .filter(routeMetrics)
+                .filter(requestTrace);
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.github.mikhailstepanov88.ignite_meetup.config.properties;
+
+import reactor.util.annotation.Nullable;
+
+import java.util.Objects;
+
+public class DiagnosticsBlocking {
+    @Nullable
+    private Boolean enabled;
+    @Nullable
+    private Boolean fail;
+    @Nullable
+    private Double sampleRate;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor
+     */
+    public DiagnosticsBlocking() {}
+    //</editor-fold>
+
+    //<editor-fold desc="getters and setters">
+    @Nullable public Boolean getEnabled() {return enabled;}
+    @Nullable public Boolean getFail() {return fail;}
+    @Nullable public Double getSampleRate() {return sampleRate;}
+    public void setEnabled(@Nullable Boolean enabled) {this.enabled = enabled;}
+    public void setFail(@Nullable Boolean fail) {this.fail = fail;}
+    public void setSampleRate(@Nullable Double sampleRate) {this.sampleRate = sampleRate;}
+    //</editor-fold>
+
+    //<editor-fold desc="equals and hashCode">
+    @Override
+    public boolean equals(@Nullable Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        DiagnosticsBlocking diagnosticsBlocking = (DiagnosticsBlocking) that;
+        return Objects.equals(enabled, diagnosticsBlocking.enabled) &&
+                Objects.equals(fail, diagnosticsBlocking.fail) &&
+                Objects.equals(sampleRate, diagnosticsBlocking.sampleRate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, fail, sampleRate);
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,53 @@
+package com.github.mikhailstepanov88.ignite_meetup.config.properties;
+
+import reactor.util.annotation.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+
+public class DiagnosticsBudget {
+    @Nullable
+    private Boolean enabled;
+    @Nullable
+    private Boolean reject;
+    @Nullable
+    private Integer defaultLimit;
+    @Nullable
+    private Map<String, Integer> routes;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor
+     */
+    public DiagnosticsBudget() {}
+    //</editor-fold>
+
+    //<editor-fold desc="getters and setters">
+    @Nullable public Boolean getEnabled() {return enabled;}
+    @Nullable public Boolean getReject() {return reject;}
+    @Nullable public Integer getDefaultLimit() {return defaultLimit;}
+    @Nullable public Map<String, Integer> getRoutes() {return routes;}
+    public void setEnabled(@Nullable Boolean enabled) {this.enabled = enabled;}
+    public void setReject(@Nullable Boolean reject) {this.reject = reject;}
+    public void setDefaultLimit(@Nullable Integer defaultLimit) {this.defaultLimit = defaultLimit;}
+    public void setRoutes(@Nullable Map<String, Integer> routes) {this.routes = routes;}
+    //</editor-fold>
+
+    //<editor-fold desc="equals and hashCode">
+    @Override
+    public boolean equals(@Nullable Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        DiagnosticsBudget diagnosticsBudget = (DiagnosticsBudget) that;
+        return Objects.equals(enabled, diagnosticsBudget.enabled) &&
+                Objects.equals(reject, diagnosticsBudget.reject) &&
+                Objects.equals(defaultLimit, diagnosticsBudget.defaultLimit) &&
+                Objects.equals(routes, diagnosticsBudget.routes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, reject, defaultLimit, routes);
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,65 @@
+package com.github.mikhailstepanov88.ignite_meetup.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+@Configuration
+@ConfigurationProperties("diagnostics")
+public class DiagnosticsProperties {
+    @Nullable
+    private Boolean serverTiming;
+    @Nullable
+    private Duration slowQueryThreshold;
+    @Nullable
+    private DiagnosticsBlocking blocking;
+    @Nullable
+    private DiagnosticsBudget operationBudget;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     */
+    public DiagnosticsProperties() {}
+    //</editor-fold>
+
+    //<editor-fold desc="getters and setters">
+    @Nullable public Boolean getServerTiming() {return serverTiming;}
+    @Nullable public Duration getSlowQueryThreshold() {return slowQueryThreshold;}
+    @NonNull
+    public DiagnosticsBlocking getBlocking() {
+        return Optional.ofNullable(blocking).orElse(new DiagnosticsBlocking());
+    }
+    @NonNull
+    public DiagnosticsBudget getOperationBudget() {
+        return Optional.ofNullable(operationBudget).orElse(new DiagnosticsBudget());
+    }
+    public void setServerTiming(@Nullable Boolean serverTiming) {this.serverTiming = serverTiming;}
+    public void setSlowQueryThreshold(@Nullable Duration slowQueryThreshold) {this.slowQueryThreshold = slowQueryThreshold;}
+    public void setBlocking(@Nullable DiagnosticsBlocking blocking) {this.blocking = blocking;}
+    public void setOperationBudget(@Nullable DiagnosticsBudget operationBudget) {this.operationBudget = operationBudget;}
+    //</editor-fold>
+
+    //<editor-fold desc="equals and hashCode">
+    @Override
+    public boolean equals(@Nullable Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        DiagnosticsProperties diagnosticsProperties = (DiagnosticsProperties) that;
+        return Objects.equals(serverTiming, diagnosticsProperties.serverTiming) &&
+                Objects.equals(slowQueryThreshold, diagnosticsProperties.slowQueryThreshold) &&
+                Objects.equals(blocking, diagnosticsProperties.blocking) &&
+                Objects.equals(operationBudget, diagnosticsProperties.operationBudget);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(serverTiming, slowQueryThreshold, blocking, operationBudget);
+    }
+    //</editor-fold>
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.github.mikhailstepanov88.ignite_meetup.config.properties;
+
+import reactor.util.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class IgniteDatabaseBatch {
+    @Nullable
+    private Boolean enabled;
+    @Nullable
+    private Integer maxSize;
+    @Nullable
+    private Duration maxDelay;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor
+     */
+    public IgniteDatabaseBatch() {}
+    //</editor-fold>
+
+    //<editor-fold desc="getters and setters">
+    @Nullable public Boolean getEnabled() {return enabled;}
+    @Nullable public Integer getMaxSize() {return maxSize;}
+    @Nullable public Duration getMaxDelay() {return maxDelay;}
+    public void setEnabled(@Nullable Boolean enabled) {this.enabled = enabled;}
+    public void setMaxSize(@Nullable Integer maxSize) {this.maxSize = maxSize;}
+    public void setMaxDelay(@Nullable Duration maxDelay) {this.maxDelay = maxDelay;}
+    //</editor-fold>
+
+    //<editor-fold desc="equals and hashCode">
+    @Override
+    public boolean equals(@Nullable Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        IgniteDatabaseBatch igniteDatabaseBatch = (IgniteDatabaseBatch) that;
+        return Objects.equals(enabled, igniteDatabaseBatch.enabled) &&
+                Objects.equals(maxSize, igniteDatabaseBatch.maxSize) &&
+                Objects.equals(maxDelay, igniteDatabaseBatch.maxDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxSize, maxDelay);
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,80 @@
+package com.github.mikhailstepanov88.ignite_meetup.config.properties;
+
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheWriteSynchronizationMode;
+import reactor.util.annotation.Nullable;
+
+import java.util.Objects;
+
+public class IgniteDatabaseCache {
+    @Nullable
+    private Integer partitions;
+    @Nullable
+    private Integer backups;
+    @Nullable
+    private CacheAtomicityMode atomicityMode;
+    @Nullable
+    private CacheWriteSynchronizationMode writeSynchronizationMode;
+    @Nullable
+    private Boolean onheapCacheEnabled;
+    @Nullable
+    private Integer onheapCacheMaxSize;
+    @Nullable
+    private Boolean copyOnRead;
+    @Nullable
+    private String dataRegion;
+    @Nullable
+    private Integer rebalanceBatchSize;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor
+     */
+    public IgniteDatabaseCache() {}
+    //</editor-fold>
+
+    //<editor-fold desc="getters and setters">
+    @Nullable public Integer getPartitions() {return partitions;}
+    @Nullable public Integer getBackups() {return backups;}
+    @Nullable public CacheAtomicityMode getAtomicityMode() {return atomicityMode;}
+    @Nullable public CacheWriteSynchronizationMode getWriteSynchronizationMode() {return writeSynchronizationMode;}
+    @Nullable public Boolean getOnheapCacheEnabled() {return onheapCacheEnabled;}
+    @Nullable public Integer getOnheapCacheMaxSize() {return onheapCacheMaxSize;}
+    @Nullable public Boolean getCopyOnRead() {return copyOnRead;}
+    @Nullable public String getDataRegion() {return dataRegion;}
+    @Nullable public Integer getRebalanceBatchSize() {return rebalanceBatchSize;}
+    public void setPartitions(@Nullable Integer partitions) {this.partitions = partitions;}
+    public void setBackups(@Nullable Integer backups) {this.backups = backups;}
+    public void setAtomicityMode(@Nullable CacheAtomicityMode atomicityMode) {this.atomicityMode = atomicityMode;}
+    public void setWriteSynchronizationMode(@Nullable CacheWriteSynchronizationMode writeSynchronizationMode) {this.writeSynchronizationMode = writeSynchronizationMode;}
+    public void setOnheapCacheEnabled(@Nullable Boolean onheapCacheEnabled) {this.onheapCacheEnabled = onheapCacheEnabled;}
+    public void setOnheapCacheMaxSize(@Nullable Integer onheapCacheMaxSize) {this.onheapCacheMaxSize = onheapCacheMaxSize;}
+    public void setCopyOnRead(@Nullable Boolean copyOnRead) {this.copyOnRead = copyOnRead;}
+    public void setDataRegion(@Nullable String dataRegion) {this.dataRegion = dataRegion;}
+    public void setRebalanceBatchSize(@Nullable Integer rebalanceBatchSize) {this.rebalanceBatchSize = rebalanceBatchSize;}
+    //</editor-fold>
+
+    //<editor-fold desc="equals and hashCode">
+    @Override
+    public boolean equals(@Nullable Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        IgniteDatabaseCache igniteDatabaseCache = (IgniteDatabaseCache) that;
+        return Objects.equals(partitions, igniteDatabaseCache.partitions) &&
+                Objects.equals(backups, igniteDatabaseCache.backups) &&
+                atomicityMode == igniteDatabaseCache.atomicityMode &&
+                writeSynchronizationMode == igniteDatabaseCache.writeSynchronizationMode &&
+                Objects.equals(onheapCacheEnabled, igniteDatabaseCache.onheapCacheEnabled) &&
+                Objects.equals(onheapCacheMaxSize, igniteDatabaseCache.onheapCacheMaxSize) &&
+                Objects.equals(copyOnRead, igniteDatabaseCache.copyOnRead) &&
+                Objects.equals(dataRegion, igniteDatabaseCache.dataRegion) &&
+                Objects.equals(rebalanceBatchSize, igniteDatabaseCache.rebalanceBatchSize);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(partitions, backups, atomicityMode, writeSynchronizationMode,
+                onheapCacheEnabled, onheapCacheMaxSize, copyOnRead, dataRegion, rebalanceBatchSize);
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,75 @@
+package com.github.mikhailstepanov88.ignite_meetup.config.properties;
+
+import org.apache.ignite.configuration.WALMode;
+import reactor.util.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class IgniteDatabasePersistence {
+    @Nullable
+    private Boolean enabled;
+    @Nullable
+    private String storagePath;
+    @Nullable
+    private WALMode walMode;
+    @Nullable
+    private Duration checkpointFrequency;
+    @Nullable
+    private Integer pageSize;
+    @Nullable
+    private Boolean autoActivate;
+    @Nullable
+    private Boolean warmupEnabled;
+    @Nullable
+    private Integer warmupThreads;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor
+     */
+    public IgniteDatabasePersistence() {}
+    //</editor-fold>
+
+    //<editor-fold desc="getters and setters">
+    @Nullable public Boolean getEnabled() {return enabled;}
+    @Nullable public String getStoragePath() {return storagePath;}
+    @Nullable public WALMode getWalMode() {return walMode;}
+    @Nullable public Duration getCheckpointFrequency() {return checkpointFrequency;}
+    @Nullable public Integer getPageSize() {return pageSize;}
+    @Nullable public Boolean getAutoActivate() {return autoActivate;}
+    @Nullable public Boolean getWarmupEnabled() {return warmupEnabled;}
+    @Nullable public Integer getWarmupThreads() {return warmupThreads;}
+    public void setEnabled(@Nullable Boolean enabled) {this.enabled = enabled;}
+    public void setStoragePath(@Nullable String storagePath) {this.storagePath = storagePath;}
+    public void setWalMode(@Nullable WALMode walMode) {this.walMode = walMode;}
+    public void setCheckpointFrequency(@Nullable Duration checkpointFrequency) {this.checkpointFrequency = checkpointFrequency;}
+    public void setPageSize(@Nullable Integer pageSize) {this.pageSize = pageSize;}
+    public void setAutoActivate(@Nullable Boolean autoActivate) {this.autoActivate = autoActivate;}
+    public void setWarmupEnabled(@Nullable Boolean warmupEnabled) {this.warmupEnabled = warmupEnabled;}
+    public void setWarmupThreads(@Nullable Integer warmupThreads) {this.warmupThreads = warmupThreads;}
+    //</editor-fold>
+
+    //<editor-fold desc="equals and hashCode">
+    @Override
+    public boolean equals(@Nullable Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        IgniteDatabasePersistence igniteDatabasePersistence = (IgniteDatabasePersistence) that;
+        return Objects.equals(enabled, igniteDatabasePersistence.enabled) &&
+                Objects.equals(storagePath, igniteDatabasePersistence.storagePath) &&
+                walMode == igniteDatabasePersistence.walMode &&
+                Objects.equals(checkpointFrequency, igniteDatabasePersistence.checkpointFrequency) &&
+                Objects.equals(pageSize, igniteDatabasePersistence.pageSize) &&
+                Objects.equals(autoActivate, igniteDatabasePersistence.autoActivate) &&
+                Objects.equals(warmupEnabled, igniteDatabasePersistence.warmupEnabled) &&
+                Objects.equals(warmupThreads, igniteDatabasePersistence.warmupThreads);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, storagePath, walMode, checkpointFrequency, pageSize, autoActivate,
+                warmupEnabled, warmupThreads);
+    }
+    //</editor-fold>
+}
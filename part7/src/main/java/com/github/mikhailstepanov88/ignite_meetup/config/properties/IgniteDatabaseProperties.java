@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Configuration;
 import reactor.util.annotation.NonNull;
 import reactor.util.annotation.Nullable;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Objects;
@@ -13,10 +14,24 @@ import java.util.Optional;
 @Configuration
 @ConfigurationProperties("database")
 public class IgniteDatabaseProperties {
+    @Nullable
+    private String mode;
     @Nullable
     private IgniteDatabaseNode localNode;
     @Nullable
     private Collection<IgniteDatabaseNode> remoteNodes;
+    @Nullable
+    private IgniteDatabaseCache cache;
+    @Nullable
+    private IgniteDatabaseRegion dataRegion;
+    @Nullable
+    private IgniteDatabasePersistence persistence;
+    @Nullable
+    private IgniteDatabaseBatch readBatch;
+    @Nullable
+    private IgniteDatabaseBatch writeBatch;
+    @Nullable
+    private Duration metricsInterval;
 
     //<editor-fold desc="constructors">
     /**
@@ -26,13 +41,42 @@ public class IgniteDatabaseProperties {
     //</editor-fold>
 
     //<editor-fold desc="getters and setters">
+    @Nullable public String getMode() {return mode;}
     @Nullable public IgniteDatabaseNode getLocalNode() {return localNode;}
     @NonNull
     public Collection<IgniteDatabaseNode> getRemoteNodes() {
         return Optional.ofNullable(remoteNodes).orElse(new HashSet<>());
     }
+    @NonNull
+    public IgniteDatabaseCache getCache() {
+        return Optional.ofNullable(cache).orElse(new IgniteDatabaseCache());
+    }
+    @NonNull
+    public IgniteDatabaseRegion getDataRegion() {
+        return Optional.ofNullable(dataRegion).orElse(new IgniteDatabaseRegion());
+    }
+    @NonNull
+    public IgniteDatabasePersistence getPersistence() {
+        return Optional.ofNullable(persistence).orElse(new IgniteDatabasePersistence());
+    }
+    @NonNull
+    public IgniteDatabaseBatch getReadBatch() {
+        return Optional.ofNullable(readBatch).orElse(new IgniteDatabaseBatch());
+    }
+    @NonNull
+    public IgniteDatabaseBatch getWriteBatch() {
+        return Optional.ofNullable(writeBatch).orElse(new IgniteDatabaseBatch());
+    }
+    @Nullable public Duration getMetricsInterval() {return metricsInterval;}
+    public void setMode(@Nullable String mode) {this.mode = mode;}
     public void setLocalNode(@Nullable IgniteDatabaseNode localNode) {this.localNode = localNode;}
     public void setRemoteNodes(@Nullable Collection<IgniteDatabaseNode> remoteNodes) {this.remoteNodes = remoteNodes;}
+    public void setCache(@Nullable IgniteDatabaseCache cache) {this.cache = cache;}
+    public void setDataRegion(@Nullable IgniteDatabaseRegion dataRegion) {this.dataRegion = dataRegion;}
+    public void setPersistence(@Nullable IgniteDatabasePersistence persistence) {this.persistence = persistence;}
+    public void setReadBatch(@Nullable IgniteDatabaseBatch readBatch) {this.readBatch = readBatch;}
+    public void setWriteBatch(@Nullable IgniteDatabaseBatch writeBatch) {this.writeBatch = writeBatch;}
+    public void setMetricsInterval(@Nullable Duration metricsInterval) {this.metricsInterval = metricsInterval;}
     //</editor-fold>
 
     //<editor-fold desc="equals and hashCode">
@@ -41,13 +85,20 @@ public class IgniteDatabaseProperties {
         if (this == that) return true;
         if (that == null || getClass() != that.getClass()) return false;
         IgniteDatabaseProperties igniteDatabaseProperties = (IgniteDatabaseProperties) that;
-        return Objects.equals(localNode, igniteDatabaseProperties.localNode) &&
-                Objects.equals(remoteNodes, igniteDatabaseProperties.remoteNodes);
+        return Objects.equals(mode, igniteDatabaseProperties.mode) &&
+                Objects.equals(localNode, igniteDatabaseProperties.localNode) &&
+                Objects.equals(remoteNodes, igniteDatabaseProperties.remoteNodes) &&
+                Objects.equals(cache, igniteDatabaseProperties.cache) &&
+                Objects.equals(dataRegion, igniteDatabaseProperties.dataRegion) &&
+                Objects.equals(persistence, igniteDatabaseProperties.persistence) &&
+                Objects.equals(readBatch, igniteDatabaseProperties.readBatch) &&
+                Objects.equals(writeBatch, igniteDatabaseProperties.writeBatch) &&
+                Objects.equals(metricsInterval, igniteDatabaseProperties.metricsInterval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(localNode, remoteNodes);
+        return Objects.hash(mode, localNode, remoteNodes, cache, dataRegion, persistence, readBatch, writeBatch, metricsInterval);
     }
     //</editor-fold>
 }
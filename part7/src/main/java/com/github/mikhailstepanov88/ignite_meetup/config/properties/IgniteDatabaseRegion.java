@@ -0,0 +1,58 @@
+package com.github.mikhailstepanov88.ignite_meetup.config.properties;
+
+import org.apache.ignite.configuration.DataPageEvictionMode;
+import reactor.util.annotation.Nullable;
+
+import java.util.Objects;
+
+public class IgniteDatabaseRegion {
+    @Nullable
+    private String name;
+    @Nullable
+    private Long initialSize;
+    @Nullable
+    private Long maxSize;
+    @Nullable
+    private DataPageEvictionMode evictionMode;
+    @Nullable
+    private Boolean metricsEnabled;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor
+     */
+    public IgniteDatabaseRegion() {}
+    //</editor-fold>
+
+    //<editor-fold desc="getters and setters">
+    @Nullable public String getName() {return name;}
+    @Nullable public Long getInitialSize() {return initialSize;}
+    @Nullable public Long getMaxSize() {return maxSize;}
+    @Nullable public DataPageEvictionMode getEvictionMode() {return evictionMode;}
+    @Nullable public Boolean getMetricsEnabled() {return metricsEnabled;}
+    public void setName(@Nullable String name) {this.name = name;}
+    public void setInitialSize(@Nullable Long initialSize) {this.initialSize = initialSize;}
+    public void setMaxSize(@Nullable Long maxSize) {this.maxSize = maxSize;}
+    public void setEvictionMode(@Nullable DataPageEvictionMode evictionMode) {this.evictionMode = evictionMode;}
+    public void setMetricsEnabled(@Nullable Boolean metricsEnabled) {this.metricsEnabled = metricsEnabled;}
+    //</editor-fold>
+
+    //<editor-fold desc="equals and hashCode">
+    @Override
+    public boolean equals(@Nullable Object that) {
+        if (this == that) return true;
+        if (that == null || getClass() != that.getClass()) return false;
+        IgniteDatabaseRegion igniteDatabaseRegion = (IgniteDatabaseRegion) that;
+        return Objects.equals(name, igniteDatabaseRegion.name) &&
+                Objects.equals(initialSize, igniteDatabaseRegion.initialSize) &&
+                Objects.equals(maxSize, igniteDatabaseRegion.maxSize) &&
+                evictionMode == igniteDatabaseRegion.evictionMode &&
+                Objects.equals(metricsEnabled, igniteDatabaseRegion.metricsEnabled);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, initialSize, maxSize, evictionMode, metricsEnabled);
+    }
+    //</editor-fold>
+}
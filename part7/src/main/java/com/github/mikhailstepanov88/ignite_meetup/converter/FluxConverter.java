@@ -1,5 +1,7 @@
 package com.github.mikhailstepanov88.ignite_meetup.converter;
 
+import com.github.mikhailstepanov88.ignite_meetup.diagnostics.IgniteOperation;
+import com.github.mikhailstepanov88.ignite_meetup.diagnostics.RequestTrace;
 import org.apache.ignite.lang.IgniteFuture;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
@@ -8,41 +10,56 @@ import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 @Component
 public class FluxConverter {
     /**
      * Convert future of Ignite to flux.
+     * Future is created on subscription after its operation is counted,
+     * so operation rejected by budget of request isn't sent to cluster.
      *
-     * @param igniteFuture future of Ignite for convert.
+     * @param kind         kind of Ignite operation of future.
+     * @param igniteFuture supplier of future of Ignite for convert.
      * @param <Item>       type of result item.
      * @return converted flux.
      */
     @NonNull
-    public <Item> Flux<Item> igniteFutureCollectionToFlux(@NonNull IgniteFuture<Collection<Item>> igniteFuture) {
-        return Flux.create(emitter -> igniteFuture.listen(future -> {
-            Collection<Item> result = Optional.ofNullable(future.get()).orElse(new ArrayList<>());
-            result.forEach(emitter::next);
-            emitter.complete();
-        }));
+    public <Item> Flux<Item> igniteFutureCollectionToFlux(@NonNull IgniteOperation kind,
+                                                          @NonNull Supplier<IgniteFuture<Collection<Item>>> igniteFuture) {
+        return Flux.create(emitter -> {
+            RequestTrace.countOperation(emitter.currentContext(), kind);
+            igniteFuture.get().listen(future -> {
+                Collection<Item> result = Optional.ofNullable(future.get()).orElse(new ArrayList<>());
+                result.forEach(emitter::next);
+                emitter.complete();
+            });
+        });
     }
 
     /**
      * Convert future of Ignite to flux.
+     * Future is created on subscription after its operation is counted,
+     * so operation rejected by budget of request isn't sent to cluster.
      *
-     * @param igniteFuture future of Ignite for convert.
+     * @param kind         kind of Ignite operation of future.
+     * @param igniteFuture supplier of future of Ignite for convert.
      * @param <Id>         type of result item identifier.
      * @param <Item>       type of result item.
      * @return converted flux.
      */
     @NonNull
-    public <Id, Item> Flux<Tuple2<Id, Item>> igniteFutureMapToFlux(@NonNull IgniteFuture<Map<Id, Item>> igniteFuture) {
-        return Flux.create(emitter -> igniteFuture.listen(future -> {
-            Map<Id, Item> result = Optional.ofNullable(future.get()).orElse(new HashMap<>());
-            result.entrySet().stream()
-                    .map(it -> Tuples.of(it.getKey(), it.getValue()))
-                    .forEach(emitter::next);
-            emitter.complete();
-        }));
+    public <Id, Item> Flux<Tuple2<Id, Item>> igniteFutureMapToFlux(@NonNull IgniteOperation kind,
+                                                                   @NonNull Supplier<IgniteFuture<Map<Id, Item>>> igniteFuture) {
+        return Flux.create(emitter -> {
+            RequestTrace.countOperation(emitter.currentContext(), kind);
+            igniteFuture.get().listen(future -> {
+                Map<Id, Item> result = Optional.ofNullable(future.get()).orElse(new HashMap<>());
+                result.entrySet().stream()
+                        .map(it -> Tuples.of(it.getKey(), it.getValue()))
+                        .forEach(emitter::next);
+                emitter.complete();
+            });
+        });
     }
 }
\ No newline at end of file
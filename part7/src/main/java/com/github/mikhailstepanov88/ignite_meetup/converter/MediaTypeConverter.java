@@ -0,0 +1,39 @@
+package com.github.mikhailstepanov88.ignite_meetup.converter;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.util.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.mikhailstepanov88.ignite_meetup.codec.CodecMediaTypes.APPLICATION_CBOR;
+import static com.github.mikhailstepanov88.ignite_meetup.codec.CodecMediaTypes.APPLICATION_SMILE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8;
+
+@Component
+public class MediaTypeConverter {
+    //<editor-fold desc="constants">
+    private static final List<MediaType> SUPPORTED_MEDIA_TYPES = Arrays.asList(
+            APPLICATION_JSON_UTF8, APPLICATION_SMILE, APPLICATION_CBOR);
+    //</editor-fold>
+
+    /**
+     * Convert accepted media types to media type of response.
+     * JSON is chosen if none of accepted media types is supported.
+     *
+     * @param accepted accepted media types.
+     * @return media type of response.
+     */
+    @NonNull
+    public MediaType acceptedToMediaType(@NonNull List<MediaType> accepted) {
+        List<MediaType> sorted = new ArrayList<>(accepted);
+        MediaType.sortBySpecificityAndQuality(sorted);
+        for (MediaType acceptedType : sorted)
+            for (MediaType supportedType : SUPPORTED_MEDIA_TYPES)
+                if (acceptedType.isCompatibleWith(supportedType))
+                    return supportedType;
+        return APPLICATION_JSON_UTF8;
+    }
+}
@@ -1,29 +1,40 @@
 package com.github.mikhailstepanov88.ignite_meetup.converter;
 
+import com.github.mikhailstepanov88.ignite_meetup.diagnostics.IgniteOperation;
+import com.github.mikhailstepanov88.ignite_meetup.diagnostics.RequestTrace;
 import org.apache.ignite.lang.IgniteFuture;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 import reactor.util.annotation.NonNull;
 
+import java.util.function.Supplier;
+
 import static java.util.Objects.nonNull;
 
 @Component
 public class MonoConverter {
     /**
      * Convert future of Ignite to mono.
+     * Future is created on subscription after its operation is counted,
+     * so operation rejected by budget of request isn't sent to cluster.
      *
-     * @param igniteFuture   future of Ignite for convert.
+     * @param kind           kind of Ignite operation of future.
+     * @param igniteFuture   supplier of future of Ignite for convert.
      * @param <TypeOfResult> type of result.
      * @return converted mono.
      */
     @NonNull
-    public <TypeOfResult> Mono<TypeOfResult> igniteFutureToMono(@NonNull IgniteFuture<TypeOfResult> igniteFuture) {
-        return Mono.create(emitter -> igniteFuture.listen(future -> {
-            TypeOfResult result = future.get();
-            if (nonNull(result))
-                emitter.success(result);
-            else
-                emitter.success();
-        }));
+    public <TypeOfResult> Mono<TypeOfResult> igniteFutureToMono(@NonNull IgniteOperation kind,
+                                                                @NonNull Supplier<IgniteFuture<TypeOfResult>> igniteFuture) {
+        return Mono.create(emitter -> {
+            RequestTrace.countOperation(emitter.currentContext(), kind);
+            igniteFuture.get().listen(future -> {
+                TypeOfResult result = future.get();
+                if (nonNull(result))
+                    emitter.success(result);
+                else
+                    emitter.success();
+            });
+        });
     }
 }
\ No newline at end of file
@@ -15,10 +15,54 @@ public class NumberConverter {
      */
     @NonNull
     public Optional<Long> stringToLong(@NonNull String value) {
-        try {
-            return Optional.of(Long.parseLong(value));
-        } catch (final Throwable ex) {
-            return Optional.empty();
+        if (!isLong(value, 0, value.length())) return Optional.empty();
+        return Optional.of(charsToLong(value, 0, value.length()));
+    }
+
+    /**
+     * Check that part of char sequence is valid long value.
+     *
+     * @param value char sequence for check.
+     * @param start index of the first char of the part (inclusive).
+     * @param end   index of the last char of the part (exclusive).
+     * @return part of char sequence is valid long value or not.
+     */
+    public boolean isLong(@NonNull CharSequence value, int start, int end) {
+        if (start >= end) return false;
+
+        boolean negative = value.charAt(start) == '-';
+        int index = negative || value.charAt(start) == '+' ? start + 1 : start;
+        if (index == end) return false;
+
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long result = 0;
+        for (; index < end; index++) {
+            int digit = value.charAt(index) - '0';
+            if (digit < 0 || digit > 9) return false;
+            if (result < limit / 10) return false;
+            result *= 10;
+            if (result < limit + digit) return false;
+            result -= digit;
         }
+        return true;
+    }
+
+    /**
+     * Convert part of char sequence to long value.
+     * The part must be checked by {@link #isLong(CharSequence, int, int)} before.
+     *
+     * @param value char sequence for convert.
+     * @param start index of the first char of the part (inclusive).
+     * @param end   index of the last char of the part (exclusive).
+     * @return converted long value.
+     */
+    public long charsToLong(@NonNull CharSequence value, int start, int end) {
+        boolean negative = value.charAt(start) == '-';
+        int index = negative || value.charAt(start) == '+' ? start + 1 : start;
+
+        long result = 0;
+        for (; index < end; index++)
+            result = result * 10 - (value.charAt(index) - '0');
+        return negative ? result : -result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,294 @@
+package com.github.mikhailstepanov88.ignite_meetup.converter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mikhailstepanov88.ignite_meetup.data.common.Gender;
+import org.apache.ignite.binary.BinaryField;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.binary.BinaryType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuple3;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Component
+public class PersonBinaryConverter {
+    //<editor-fold desc="constants">
+    private static final Gender[] GENDERS = Gender.values();
+    //</editor-fold>
+
+    private final JsonFactory jsonFactory;
+    @Nullable
+    private volatile PersonFields personFields;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param objectMapper mapper of JSON.
+     */
+    public PersonBinaryConverter(@NonNull ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+    //</editor-fold>
+
+    /**
+     * Convert binary person to JSON body.
+     *
+     * @param id      identifier of binary person for convert.
+     * @param person  binary person for convert.
+     * @param friends binary person friends for convert.
+     * @return converted JSON body.
+     */
+    @NonNull
+    public BodyInserter<BinaryObject, ReactiveHttpOutputMessage> binaryToJson(long id,
+                                                                              @NonNull BinaryObject person,
+                                                                              @NonNull Map<Long, BinaryObject> friends) {
+        return (message, context) -> write(message, generator -> writePerson(generator, id, person, friends));
+    }
+
+    /**
+     * Convert binary person to JSON body.
+     *
+     * @param id     identifier of binary person for convert.
+     * @param person binary person for convert.
+     * @return converted JSON body.
+     */
+    @NonNull
+    public BodyInserter<BinaryObject, ReactiveHttpOutputMessage> binaryToJson(long id, @NonNull BinaryObject person) {
+        return (message, context) -> write(message, generator -> writePerson(generator, id, person, null));
+    }
+
+    /**
+     * Convert binary persons to JSON array body.
+     *
+     * @param persons binary persons for convert.
+     * @return converted JSON array body.
+     */
+    @NonNull
+    public BodyInserter<BinaryObject, ReactiveHttpOutputMessage> binaryToJson(@NonNull Collection<Tuple2<Long, BinaryObject>> persons) {
+        return (message, context) -> write(message, generator -> {
+            generator.writeStartArray();
+            for (Tuple2<Long, BinaryObject> person : persons)
+                writePerson(generator, person.getT1(), person.getT2(), null);
+            generator.writeEndArray();
+        });
+    }
+
+    /**
+     * Convert binary persons to newline delimited JSON body.
+     * Every person is written to its own buffer and flushed as soon as it is read.
+     *
+     * @param persons binary persons for convert.
+     * @return converted newline delimited JSON body.
+     */
+    @NonNull
+    public BodyInserter<BinaryObject, ReactiveHttpOutputMessage> binaryToJsonStream(@NonNull Flux<Tuple2<Long, BinaryObject>> persons) {
+        return (message, context) -> message.writeAndFlushWith(persons.map(person -> render(message, generator -> {
+            writePerson(generator, person.getT1(), person.getT2(), null);
+            generator.writeRaw('\n');
+        })));
+    }
+
+    /**
+     * Convert binary persons with their friends to JSON array body.
+     *
+     * @param persons binary persons with their friends for convert.
+     * @return converted JSON array body.
+     */
+    @NonNull
+    public BodyInserter<BinaryObject, ReactiveHttpOutputMessage> binaryWithFriendsToJson(@NonNull Collection<Tuple3<Long, BinaryObject, Map<Long, BinaryObject>>> persons) {
+        return (message, context) -> write(message, generator -> {
+            generator.writeStartArray();
+            for (Tuple3<Long, BinaryObject, Map<Long, BinaryObject>> person : persons)
+                writePerson(generator, person.getT1(), person.getT2(), person.getT3());
+            generator.writeEndArray();
+        });
+    }
+
+    /**
+     * Convert binary persons with their friends to newline delimited JSON body.
+     * Every person is written to its own buffer and flushed as soon as it is read.
+     *
+     * @param persons binary persons with their friends for convert.
+     * @return converted newline delimited JSON body.
+     */
+    @NonNull
+    public BodyInserter<BinaryObject, ReactiveHttpOutputMessage> binaryWithFriendsToJsonStream(@NonNull Flux<Tuple3<Long, BinaryObject, Map<Long, BinaryObject>>> persons) {
+        return (message, context) -> message.writeAndFlushWith(persons.map(person -> render(message, generator -> {
+            writePerson(generator, person.getT1(), person.getT2(), person.getT3());
+            generator.writeRaw('\n');
+        })));
+    }
+
+    /**
+     * Convert binary person to identifiers of his friends.
+     *
+     * @param person binary person for convert.
+     * @return converted identifiers of person friends.
+     */
+    @NonNull
+    public Collection<Long> binaryToFriendIds(@NonNull BinaryObject person) {
+        return Optional.ofNullable(fieldsOf(person).friendIds.<Collection<Long>>value(person))
+                .orElse(new HashSet<>());
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Write JSON to single buffer of output message.
+     *
+     * @param message output message for write.
+     * @param writer  writer of JSON.
+     * @return completion of write.
+     */
+    @NonNull
+    private Mono<Void> write(@NonNull ReactiveHttpOutputMessage message, @NonNull JsonWriter writer) {
+        return message.writeWith(render(message, writer));
+    }
+
+    /**
+     * Render JSON to single buffer of output message.
+     *
+     * @param message output message for render.
+     * @param writer  writer of JSON.
+     * @return buffer with rendered JSON.
+     */
+    @NonNull
+    private Mono<DataBuffer> render(@NonNull ReactiveHttpOutputMessage message, @NonNull JsonWriter writer) {
+        return Mono.fromCallable(() -> {
+            DataBuffer buffer = message.bufferFactory().allocateBuffer();
+            try (JsonGenerator generator = jsonFactory.createGenerator(buffer.asOutputStream())) {
+                writer.write(generator);
+            } catch (final IOException | RuntimeException ex) {
+                DataBufferUtils.release(buffer);
+                throw ex;
+            }
+            return buffer;
+        });
+    }
+
+    /**
+     * Write binary person as JSON object.
+     *
+     * @param generator generator of JSON.
+     * @param id        identifier of binary person for write.
+     * @param person    binary person for write.
+     * @param friends   binary person friends for write.
+     * @throws IOException if JSON can't be written.
+     */
+    private void writePerson(@NonNull JsonGenerator generator,
+                             long id,
+                             @NonNull BinaryObject person,
+                             @Nullable Map<Long, BinaryObject> friends) throws IOException {
+        PersonFields fields = fieldsOf(person);
+        Integer age = fields.age.value(person);
+
+        generator.writeStartObject();
+        generator.writeNumberField("id", id);
+        generator.writeStringField("firstName", fields.firstName.value(person));
+        generator.writeStringField("lastName", fields.lastName.value(person));
+        if (isNull(age))
+            generator.writeNullField("age");
+        else
+            generator.writeNumberField("age", age);
+        generator.writeStringField("gender", genderOf(fields, person).name());
+        generator.writeArrayFieldStart("friends");
+        if (nonNull(friends))
+            for (Map.Entry<Long, BinaryObject> friend : friends.entrySet())
+                writePerson(generator, friend.getKey(), friend.getValue(), null);
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Get gender of binary person.
+     *
+     * @param fields fields of binary person.
+     * @param person binary person for read.
+     * @return gender of binary person.
+     */
+    @NonNull
+    private Gender genderOf(@NonNull PersonFields fields, @NonNull BinaryObject person) {
+        Object gender = fields.gender.value(person);
+        if (gender instanceof BinaryObject)
+            return GENDERS[((BinaryObject) gender).enumOrdinal()];
+        if (gender instanceof Gender)
+            return (Gender) gender;
+        return Gender.UNKNOWN;
+    }
+
+    /**
+     * Get cached fields of binary person type.
+     *
+     * @param person binary person for read.
+     * @return fields of binary person type.
+     */
+    @NonNull
+    private PersonFields fieldsOf(@NonNull BinaryObject person) {
+        BinaryType type = person.type();
+        PersonFields fields = personFields;
+        if (isNull(fields) || fields.typeId != type.typeId()) {
+            fields = new PersonFields(type);
+            personFields = fields;
+        }
+        return fields;
+    }
+    //</editor-fold>
+
+    /**
+     * Writer of JSON.
+     */
+    @FunctionalInterface
+    private interface JsonWriter {
+        /**
+         * Write JSON.
+         *
+         * @param generator generator of JSON.
+         * @throws IOException if JSON can't be written.
+         */
+        void write(@NonNull JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Fields of binary person type.
+     */
+    private static class PersonFields {
+        private final int typeId;
+        private final BinaryField firstName;
+        private final BinaryField lastName;
+        private final BinaryField age;
+        private final BinaryField gender;
+        private final BinaryField friendIds;
+
+        /**
+         * Constructor.
+         *
+         * @param type binary person type.
+         */
+        private PersonFields(@NonNull BinaryType type) {
+            this.typeId = type.typeId();
+            this.firstName = type.field("firstName");
+            this.lastName = type.field("lastName");
+            this.age = type.field("age");
+            this.gender = type.field("gender");
+            this.friendIds = type.field("friendIds");
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.github.mikhailstepanov88.ignite_meetup.diagnostics;
+
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.DiagnosticsBlocking;
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.DiagnosticsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingMethod;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+import reactor.util.context.Context;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Component
+public class BlockingDetector implements WebFilter {
+    //<editor-fold desc="constants">
+    private static final String HOOK_KEY = BlockingDetector.class.getName();
+    private static final Class<ServerWebExchange> CONTEXT_KEY = ServerWebExchange.class;
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+    private static final String[] NON_BLOCKING_THREADS = {"reactor-http-", "parallel-", "single-"};
+    private static final AtomicBoolean INSTALLED = new AtomicBoolean();
+    private static final AtomicReference<BlockingDetector> ACTIVE = new AtomicReference<>();
+    private static final ThreadLocal<ServerWebExchange> CURRENT_EXCHANGE = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> REPORTING = new ThreadLocal<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger("blocking-call");
+    //</editor-fold>
+
+    private final boolean enabled;
+    private final boolean fail;
+    private final double sampleRate;
+    private final MeterRegistry registry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     * Instrumentation of blocking methods is installed once per JVM when detection is enabled,
+     * its calls are reported by the last created detector.
+     *
+     * @param properties properties of diagnostics.
+     * @param registry   registry of metrics.
+     */
+    public BlockingDetector(@NonNull DiagnosticsProperties properties, @NonNull MeterRegistry registry) {
+        DiagnosticsBlocking blocking = properties.getBlocking();
+        this.enabled = Optional.ofNullable(blocking.getEnabled()).orElse(false);
+        this.fail = Optional.ofNullable(blocking.getFail()).orElse(false);
+        this.sampleRate = Optional.ofNullable(blocking.getSampleRate()).orElse(1.0);
+        this.registry = registry;
+        ACTIVE.set(enabled ? this : null);
+        if (enabled) install();
+    }
+    //</editor-fold>
+
+    /**
+     * Bind exchange of request to subscribers of its processing,
+     * so blocking call detected on non-blocking thread is reported with route of request.
+     *
+     * @param exchange exchange of request and response.
+     * @param chain    chain of filters.
+     * @return completion of request processing.
+     */
+    @NonNull
+    @Override
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        if (!enabled) return chain.filter(exchange);
+        return chain.filter(exchange).subscriberContext(context -> context.put(CONTEXT_KEY, exchange));
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Install instrumentation of blocking methods and hook that restores exchange of request on every signal.
+     * Threads of Netty event loops and of parallel and single Reactor schedulers are treated as non-blocking.
+     */
+    private void install() {
+        if (!INSTALLED.compareAndSet(false, true)) return;
+
+        Hooks.onLastOperator(HOOK_KEY, Operators.lift((scannable, subscriber) -> bind(subscriber)));
+        BlockHound.builder()
+                .nonBlockingThreadPredicate(current -> current.or(BlockingDetector::isNonBlocking))
+                .allowBlockingCallsInside("ch.qos.logback.core.UnsynchronizedAppenderBase", "doAppend")
+                .blockingMethodCallback(BlockingDetector::reportToActive)
+                .install();
+        LOGGER.info("Blocking calls on non-blocking threads are {} with sample rate {}",
+                fail ? "failed" : "logged", sampleRate);
+    }
+
+    /**
+     * Check that thread must not be blocked.
+     *
+     * @param thread thread for check.
+     * @return thread is non-blocking or not.
+     */
+    private static boolean isNonBlocking(@NonNull Thread thread) {
+        String name = thread.getName();
+        for (String prefix : NON_BLOCKING_THREADS)
+            if (name.startsWith(prefix))
+                return true;
+        return false;
+    }
+
+    /**
+     * Wrap subscriber of request processing, so its exchange is available on threads of its signals.
+     *
+     * @param subscriber subscriber for wrap.
+     * @param <Item>     type of item.
+     * @return wrapped subscriber or the same subscriber if it doesn't process request.
+     */
+    @NonNull
+    private static <Item> CoreSubscriber<? super Item> bind(@NonNull CoreSubscriber<? super Item> subscriber) {
+        Optional<ServerWebExchange> exchange = subscriber.currentContext().getOrEmpty(CONTEXT_KEY);
+        if (!exchange.isPresent()) return subscriber;
+        return new ExchangeSubscriber<>(subscriber, exchange.get());
+    }
+
+    /**
+     * Report blocking call on non-blocking thread by active detector.
+     *
+     * @param method blocking method.
+     */
+    private static void reportToActive(@NonNull BlockingMethod method) {
+        BlockingDetector detector = ACTIVE.get();
+        if (nonNull(detector)) detector.report(method);
+    }
+
+    /**
+     * Report blocking call on non-blocking thread.
+     * Failing mode reports and then fails every call, logging mode reports only sampled calls.
+     *
+     * @param method blocking method.
+     */
+    private void report(@NonNull BlockingMethod method) {
+        if (nonNull(REPORTING.get())) return;
+        if (!fail && sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) return;
+
+        BlockingOperationError error = new BlockingOperationError(method);
+        REPORTING.set(Boolean.TRUE);
+        try {
+            String route = routeOf(CURRENT_EXCHANGE.get());
+            counters.computeIfAbsent(route + " " + method, it -> Counter.builder("persons.blocking.calls")
+                    .description("Blocking calls detected on non-blocking threads")
+                    .tag("route", route)
+                    .tag("method", method.toString())
+                    .register(registry))
+                    .increment();
+            LOGGER.warn("Blocking call {} on thread {} for route {}", method, Thread.currentThread().getName(), route,
+                    error);
+        } finally {
+            REPORTING.remove();
+        }
+        if (fail) throw error;
+    }
+
+    /**
+     * Get route of request.
+     *
+     * @param exchange exchange of request or null if blocking call isn't made for request.
+     * @return method and pattern of route.
+     */
+    @NonNull
+    private static String routeOf(@Nullable ServerWebExchange exchange) {
+        if (isNull(exchange)) return UNKNOWN_ROUTE;
+
+        ServerHttpRequest request = exchange.getRequest();
+        PathPattern pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethodValue() + " " + (nonNull(pattern) ? pattern.getPatternString() : request.getPath().value());
+    }
+    //</editor-fold>
+
+    /**
+     * Subscriber that makes exchange of request current while it handles signals.
+     *
+     * @param <Item> type of item.
+     */
+    private static class ExchangeSubscriber<Item> implements CoreSubscriber<Item> {
+        private final CoreSubscriber<? super Item> delegate;
+        private final ServerWebExchange exchange;
+
+        /**
+         * Constructor.
+         *
+         * @param delegate subscriber for wrap.
+         * @param exchange exchange of request.
+         */
+        private ExchangeSubscriber(@NonNull CoreSubscriber<? super Item> delegate, @NonNull ServerWebExchange exchange) {
+            this.delegate = delegate;
+            this.exchange = exchange;
+        }
+
+        @NonNull
+        @Override
+        public Context currentContext() {
+            return delegate.currentContext();
+        }
+
+        @Override
+        public void onSubscribe(@NonNull Subscription subscription) {
+            ServerWebExchange previous = enter();
+            try {
+                delegate.onSubscribe(subscription);
+            } finally {
+                CURRENT_EXCHANGE.set(previous);
+            }
+        }
+
+        @Override
+        public void onNext(Item item) {
+            ServerWebExchange previous = enter();
+            try {
+                delegate.onNext(item);
+            } finally {
+                CURRENT_EXCHANGE.set(previous);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            ServerWebExchange previous = enter();
+            try {
+                delegate.onError(error);
+            } finally {
+                CURRENT_EXCHANGE.set(previous);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            ServerWebExchange previous = enter();
+            try {
+                delegate.onComplete();
+            } finally {
+                CURRENT_EXCHANGE.set(previous);
+            }
+        }
+
+        /**
+         * Make exchange of request current.
+         *
+         * @return previous current exchange.
+         */
+        @Nullable
+        private ServerWebExchange enter() {
+            ServerWebExchange previous = CURRENT_EXCHANGE.get();
+            CURRENT_EXCHANGE.set(exchange);
+            return previous;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.mikhailstepanov88.ignite_meetup.diagnostics;
+
+import reactor.util.annotation.NonNull;
+
+public enum IgniteOperation {
+    GET("get"),
+    GET_ALL("getAll"),
+    PUT("put"),
+    REMOVE("remove"),
+    INVOKE("invoke"),
+    QUERY("query"),
+    TX("tx");
+
+    private final String label;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param label label of operation kind in traces.
+     */
+    IgniteOperation(@NonNull String label) {
+        this.label = label;
+    }
+    //</editor-fold>
+
+    /**
+     * Get label of operation kind in traces.
+     *
+     * @return label of operation kind.
+     */
+    @NonNull
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.mikhailstepanov88.ignite_meetup.diagnostics;
+
+import reactor.util.annotation.NonNull;
+
+public class OperationBudgetExceededException extends RuntimeException {
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param budget     budget of Ignite operations per request.
+     * @param operations Ignite operations issued for request by kinds.
+     */
+    public OperationBudgetExceededException(int budget, @NonNull String operations) {
+        super("Request exceeds budget of " + budget + " Ignite operations: " + operations);
+    }
+    //</editor-fold>
+}
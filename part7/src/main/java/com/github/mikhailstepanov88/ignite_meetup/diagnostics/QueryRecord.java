@@ -0,0 +1,70 @@
+package com.github.mikhailstepanov88.ignite_meetup.diagnostics;
+
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import java.time.Instant;
+
+import static java.util.Objects.isNull;
+
+public class QueryRecord {
+    @Nullable
+    private final String firstName;
+    @Nullable
+    private final String lastName;
+    @NonNull
+    private final Instant startedAt;
+    private final long durationMicros;
+    private final long scanned;
+    private final long returned;
+    private final int partitions;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param firstName      filter by first name.
+     * @param lastName       filter by last name.
+     * @param startedAt      start time of search.
+     * @param durationMicros duration of search in microseconds.
+     * @param scanned        entries scanned by search.
+     * @param returned       entries returned by search.
+     * @param partitions     partitions touched by search.
+     */
+    public QueryRecord(@Nullable String firstName,
+                       @Nullable String lastName,
+                       @NonNull Instant startedAt,
+                       long durationMicros,
+                       long scanned,
+                       long returned,
+                       int partitions) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.startedAt = startedAt;
+        this.durationMicros = durationMicros;
+        this.scanned = scanned;
+        this.returned = returned;
+        this.partitions = partitions;
+    }
+    //</editor-fold>
+
+    /**
+     * Get shape of search: which filters are used, without their values.
+     *
+     * @return shape of search.
+     */
+    @NonNull
+    public String getShape() {
+        return "firstName=" + (isNull(firstName) ? "*" : "?") + "&lastName=" + (isNull(lastName) ? "*" : "?");
+    }
+
+    //<editor-fold desc="getters">
+    @Nullable public String getFirstName() {return firstName;}
+    @Nullable public String getLastName() {return lastName;}
+    @NonNull public Instant getStartedAt() {return startedAt;}
+    public long getDurationMicros() {return durationMicros;}
+    public long getScanned() {return scanned;}
+    public long getReturned() {return returned;}
+    public int getPartitions() {return partitions;}
+    //</editor-fold>
+}
@@ -0,0 +1,184 @@
+package com.github.mikhailstepanov88.ignite_meetup.diagnostics;
+
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.DiagnosticsProperties;
+import com.github.mikhailstepanov88.ignite_meetup.repository.IgniteActivation;
+import org.apache.ignite.IgniteCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class QueryStatistics {
+    //<editor-fold desc="constants">
+    private static final String CACHE_NAME = "persons";
+    private static final Duration DEFAULT_SLOW_QUERY_THRESHOLD = Duration.ofMillis(100);
+    private static final int SLOW_QUERIES_KEPT = 100;
+    private static final Logger SLOW_QUERY_LOGGER = LoggerFactory.getLogger("slow-query");
+    //</editor-fold>
+
+    private final long slowQueryThreshold;
+    private final IgniteActivation activation;
+    private final IgniteActivation.Handle<Integer> partitions;
+    private final IgniteActivation.Handle<IgniteCache<?, ?>> cache;
+    private final Map<String, ShapeStatistics> shapes = new ConcurrentHashMap<>();
+    private final Deque<QueryRecord> slowQueries = new ArrayDeque<>();
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     * Cache of persons and its partitions are looked up on the first search after activation of cluster.
+     *
+     * @param activation activation of Ignite cluster.
+     * @param properties properties of diagnostics.
+     */
+    public QueryStatistics(@NonNull IgniteActivation activation, @NonNull DiagnosticsProperties properties) {
+        this.slowQueryThreshold = Optional.ofNullable(properties.getSlowQueryThreshold())
+                .orElse(DEFAULT_SLOW_QUERY_THRESHOLD)
+                .toNanos() / 1000;
+        this.activation = activation;
+        this.cache = activation.handle(it -> it.cache(CACHE_NAME));
+        this.partitions = activation.handle(it -> it.affinity(CACHE_NAME).partitions());
+    }
+    //</editor-fold>
+
+    /**
+     * Record statistics of search from subscription to termination of its results.
+     * Search is a full scan, so it touches all partitions and scans all primary entries of cache.
+     * Count of scanned entries is taken from cache metrics, which are gossiped to client and cost no request.
+     * Search failed before activation of cluster isn't recorded.
+     *
+     * @param firstName filter by first name.
+     * @param lastName  filter by last name.
+     * @param results   results of search.
+     * @param <Item>    type of result item.
+     * @return results of search.
+     */
+    @NonNull
+    public <Item> Flux<Item> record(@Nullable String firstName, @Nullable String lastName, @NonNull Flux<Item> results) {
+        return Flux.defer(() -> {
+            Instant startedAt = Instant.now();
+            long started = System.nanoTime();
+            AtomicLong returned = new AtomicLong();
+            return results
+                    .doOnNext(it -> returned.incrementAndGet())
+                    .doFinally(signal -> {
+                        if (!activation.isActive()) return;
+                        record(new QueryRecord(firstName, lastName, startedAt,
+                                (System.nanoTime() - started) / 1000, scannedEntries(), returned.get(), partitions.get()));
+                    });
+        });
+    }
+
+    /**
+     * Get aggregated statistics by shapes of search and the latest slow searches.
+     *
+     * @return statistics of searches.
+     */
+    @NonNull
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> byShape = new LinkedHashMap<>();
+        shapes.forEach((shape, statistics) -> byShape.put(shape, statistics.toMap()));
+
+        List<QueryRecord> slow;
+        synchronized (slowQueries) {
+            slow = new ArrayList<>(slowQueries);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("slowQueryThresholdMicros", slowQueryThreshold);
+        result.put("shapes", byShape);
+        result.put("slowQueries", slow);
+        return result;
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Record statistics of completed search.
+     *
+     * @param record statistics of search.
+     */
+    private void record(@NonNull QueryRecord record) {
+        shapes.computeIfAbsent(record.getShape(), it -> new ShapeStatistics()).add(record);
+        if (record.getDurationMicros() < slowQueryThreshold) return;
+
+        SLOW_QUERY_LOGGER.warn("Slow search firstName={} lastName={}: {} us, scanned {}, returned {}, partitions {}",
+                record.getFirstName(), record.getLastName(), record.getDurationMicros(),
+                record.getScanned(), record.getReturned(), record.getPartitions());
+        synchronized (slowQueries) {
+            if (slowQueries.size() == SLOW_QUERIES_KEPT) slowQueries.removeFirst();
+            slowQueries.addLast(record);
+        }
+    }
+
+    /**
+     * Get count of primary entries of cache, that is count of entries scanned by full scan.
+     *
+     * @return count of scanned entries or -1 if it is unknown.
+     */
+    private long scannedEntries() {
+        try {
+            return cache.get().metrics().getOffHeapPrimaryEntriesCount();
+        } catch (final RuntimeException ex) {
+            return -1;
+        }
+    }
+    //</editor-fold>
+
+    /**
+     * Aggregated statistics of one shape of search.
+     */
+    private static class ShapeStatistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final AtomicLong maxMicros = new AtomicLong();
+        private final LongAdder scanned = new LongAdder();
+        private final LongAdder returned = new LongAdder();
+
+        /**
+         * Add statistics of search.
+         *
+         * @param record statistics of search.
+         */
+        private void add(@NonNull QueryRecord record) {
+            count.increment();
+            totalMicros.add(record.getDurationMicros());
+            maxMicros.accumulateAndGet(record.getDurationMicros(), Math::max);
+            scanned.add(Math.max(0, record.getScanned()));
+            returned.add(record.getReturned());
+        }
+
+        /**
+         * Convert statistics to map for endpoint.
+         *
+         * @return statistics as map.
+         */
+        @NonNull
+        private Map<String, Object> toMap() {
+            long searches = count.sum();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("count", searches);
+            result.put("meanMicros", searches == 0 ? 0 : totalMicros.sum() / searches);
+            result.put("maxMicros", maxMicros.get());
+            result.put("scanned", scanned.sum());
+            result.put("returned", returned.sum());
+            result.put("selectivity", scanned.sum() == 0 ? 0 : (double) returned.sum() / scanned.sum());
+            return result;
+        }
+    }
+}
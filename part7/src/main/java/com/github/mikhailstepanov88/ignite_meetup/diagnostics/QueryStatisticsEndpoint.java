@@ -0,0 +1,36 @@
+package com.github.mikhailstepanov88.ignite_meetup.diagnostics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import reactor.util.annotation.NonNull;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "queries")
+public class QueryStatisticsEndpoint {
+    private final QueryStatistics statistics;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param statistics statistics of person searches.
+     */
+    public QueryStatisticsEndpoint(@NonNull QueryStatistics statistics) {
+        this.statistics = statistics;
+    }
+    //</editor-fold>
+
+    /**
+     * Get statistics of person searches by their shapes and the latest slow searches.
+     *
+     * @return statistics of searches.
+     */
+    @NonNull
+    @ReadOperation
+    public Map<String, Object> queries() {
+        return statistics.getStatistics();
+    }
+}
@@ -0,0 +1,227 @@
+package com.github.mikhailstepanov88.ignite_meetup.diagnostics;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.NonNull;
+import reactor.util.context.Context;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class RequestTrace {
+    //<editor-fold desc="constants">
+    private static final Class<RequestTrace> KEY = RequestTrace.class;
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+    private static final IgniteOperation[] KINDS = IgniteOperation.values();
+    //</editor-fold>
+
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final AtomicInteger operations = new AtomicInteger();
+    private final AtomicIntegerArray operationsByKind = new AtomicIntegerArray(KINDS.length);
+    private volatile long handledAt;
+    private volatile int budget;
+    private volatile boolean rejectOverBudget;
+
+    /**
+     * Measure phase of request processing from subscription to termination of mono.
+     * Durations of phase that is executed several times are summed up.
+     *
+     * @param name           name of phase.
+     * @param mono           mono of phase.
+     * @param <TypeOfResult> type of result.
+     * @return measured mono or the same mono if request isn't traced.
+     */
+    @NonNull
+    public static <TypeOfResult> Mono<TypeOfResult> phase(@NonNull String name, @NonNull Mono<TypeOfResult> mono) {
+        return Mono.subscriberContext().flatMap(context -> {
+            Optional<RequestTrace> trace = of(context);
+            if (!trace.isPresent()) return mono;
+
+            long startedAt = System.nanoTime();
+            return mono.doFinally(signal -> trace.get().addPhase(name, System.nanoTime() - startedAt));
+        });
+    }
+
+    /**
+     * Measure phase of request processing from subscription to termination of flux.
+     * Durations of phase that is executed several times are summed up.
+     *
+     * @param name   name of phase.
+     * @param flux   flux of phase.
+     * @param <Item> type of result item.
+     * @return measured flux or the same flux if request isn't traced.
+     */
+    @NonNull
+    public static <Item> Flux<Item> phase(@NonNull String name, @NonNull Flux<Item> flux) {
+        return Mono.subscriberContext().flatMapMany(context -> {
+            Optional<RequestTrace> trace = of(context);
+            if (!trace.isPresent()) return flux;
+
+            long startedAt = System.nanoTime();
+            return flux.doFinally(signal -> trace.get().addPhase(name, System.nanoTime() - startedAt));
+        });
+    }
+
+    /**
+     * Count Ignite operation issued for traced request.
+     *
+     * @param context context of subscriber.
+     * @param kind    kind of Ignite operation.
+     * @throws OperationBudgetExceededException if request exceeds its budget and must be rejected.
+     */
+    public static void countOperation(@NonNull Context context, @NonNull IgniteOperation kind) {
+        Optional<RequestTrace> trace = of(context);
+        if (trace.isPresent()) trace.get().count(kind);
+    }
+
+    /**
+     * Get trace of request from context of subscriber.
+     *
+     * @param context context of subscriber.
+     * @return trace of request or empty if request isn't traced.
+     */
+    @NonNull
+    public static Optional<RequestTrace> of(@NonNull Context context) {
+        return context.getOrEmpty(KEY);
+    }
+
+    /**
+     * Put trace to context of subscriber.
+     *
+     * @param context context of subscriber.
+     * @return context with trace.
+     */
+    @NonNull
+    public Context putTo(@NonNull Context context) {
+        return context.put(KEY, this);
+    }
+
+    /**
+     * Mark that handler has returned response, the rest of time is spent on serialization.
+     */
+    public void handled() {
+        handledAt = System.nanoTime();
+    }
+
+    /**
+     * Set budget of Ignite operations for request.
+     *
+     * @param budget budget of Ignite operations, zero for unlimited.
+     * @param reject reject the next operations over budget or not.
+     */
+    public void budget(int budget, boolean reject) {
+        this.budget = budget;
+        this.rejectOverBudget = reject;
+    }
+
+    /**
+     * Check that request has exceeded its budget of Ignite operations.
+     *
+     * @return request has exceeded its budget or not.
+     */
+    public boolean isOverBudget() {
+        int budget = this.budget;
+        return budget > 0 && operations.get() > budget;
+    }
+
+    /**
+     * Get budget of Ignite operations for request.
+     *
+     * @return budget of Ignite operations, zero for unlimited.
+     */
+    public int getBudget() {
+        return budget;
+    }
+
+    /**
+     * Get count of Ignite operations issued for request.
+     *
+     * @return count of Ignite operations.
+     */
+    public int getOperations() {
+        return operations.get();
+    }
+
+    /**
+     * Get counts of Ignite operations issued for request by kinds, e.g. {@code get=1 getAll=2}.
+     *
+     * @return counts of Ignite operations by kinds.
+     */
+    @NonNull
+    public String getOperationsByKind() {
+        StringBuilder result = new StringBuilder();
+        for (IgniteOperation kind : KINDS) {
+            int count = operationsByKind.get(kind.ordinal());
+            if (count == 0) continue;
+            if (result.length() > 0) result.append(' ');
+            result.append(kind.getLabel()).append('=').append(count);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Get value of Server-Timing header with durations of phases in milliseconds.
+     *
+     * @return value of Server-Timing header.
+     */
+    @NonNull
+    public String toServerTiming() {
+        long now = System.nanoTime();
+        StringBuilder result = new StringBuilder();
+        synchronized (phases) {
+            phases.forEach((name, duration) -> appendMetric(result, name, duration));
+        }
+        long handledAt = this.handledAt;
+        if (handledAt != 0) appendMetric(result, "serialize", now - handledAt);
+        appendMetric(result, "total", now - startedAt);
+        result.append(", ignite-ops;desc=\"").append(operations.get());
+        String byKind = getOperationsByKind();
+        if (!byKind.isEmpty()) result.append(" (").append(byKind).append(')');
+        return result.append('"').toString();
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Count Ignite operation and check budget of request.
+     *
+     * @param kind kind of Ignite operation.
+     * @throws OperationBudgetExceededException if request exceeds its budget and must be rejected.
+     */
+    private void count(@NonNull IgniteOperation kind) {
+        int count = operations.incrementAndGet();
+        operationsByKind.incrementAndGet(kind.ordinal());
+        int budget = this.budget;
+        if (rejectOverBudget && budget > 0 && count > budget)
+            throw new OperationBudgetExceededException(budget, getOperationsByKind());
+    }
+
+    /**
+     * Add duration of phase.
+     *
+     * @param name     name of phase.
+     * @param duration duration of phase in nanoseconds.
+     */
+    private void addPhase(@NonNull String name, long duration) {
+        synchronized (phases) {
+            phases.merge(name, duration, Long::sum);
+        }
+    }
+
+    /**
+     * Append metric to value of Server-Timing header.
+     *
+     * @param result   value of Server-Timing header.
+     * @param name     name of metric.
+     * @param duration duration of metric in nanoseconds.
+     */
+    private static void appendMetric(@NonNull StringBuilder result, @NonNull String name, long duration) {
+        if (result.length() > 0) result.append(", ");
+        result.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", duration / NANOS_IN_MILLI));
+    }
+    //</editor-fold>
+}
\ No newline at end of file
@@ -0,0 +1,192 @@
+package com.github.mikhailstepanov88.ignite_meetup.diagnostics;
+
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.DiagnosticsBudget;
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.DiagnosticsProperties;
+import com.github.mikhailstepanov88.ignite_meetup.jfr.FlightRecorderSupport;
+import com.github.mikhailstepanov88.ignite_meetup.jfr.HttpRequestEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Component
+public class RequestTraceFilter implements WebFilter, HandlerFilterFunction<ServerResponse, ServerResponse> {
+    //<editor-fold desc="constants">
+    private static final String HEADER_NAME = "Server-Timing";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestTraceFilter.class);
+    //</editor-fold>
+
+    private final boolean serverTiming;
+    private final boolean budgetEnabled;
+    private final boolean rejectOverBudget;
+    private final int defaultBudget;
+    private final Map<String, Integer> routeBudgets;
+    private final MeterRegistry registry;
+    private final Map<String, DistributionSummary> operationsPerRequest = new ConcurrentHashMap<>();
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param properties properties of diagnostics.
+     * @param registry   registry of metrics.
+     */
+    public RequestTraceFilter(@NonNull DiagnosticsProperties properties, @NonNull MeterRegistry registry) {
+        DiagnosticsBudget budget = properties.getOperationBudget();
+        this.serverTiming = Optional.ofNullable(properties.getServerTiming()).orElse(false);
+        this.budgetEnabled = Optional.ofNullable(budget.getEnabled()).orElse(false);
+        this.rejectOverBudget = Optional.ofNullable(budget.getReject()).orElse(false);
+        this.defaultBudget = Optional.ofNullable(budget.getDefaultLimit()).orElse(0);
+        this.routeBudgets = new HashMap<>(Optional.ofNullable(budget.getRoutes()).orElse(new HashMap<>()));
+        this.registry = registry;
+    }
+    //</editor-fold>
+
+    /**
+     * Trace request when Server-Timing header, flight recorder event of request or budget of Ignite operations is enabled.
+     * Server-Timing header with durations of phases is added to response and every completed request
+     * is logged with debug level; event of flight recorder is committed when request is completed if it is available;
+     * Ignite operations of request are recorded per route and request over its budget is logged,
+     * or rejected with status 503 if it is still possible.
+     *
+     * @param exchange exchange of request and response.
+     * @param chain    chain of filters.
+     * @return completion of request processing.
+     */
+    @NonNull
+    @Override
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        HttpRequestEvent event = FlightRecorderSupport.isAvailable() && HttpRequestEvent.isTypeEnabled()
+                ? new HttpRequestEvent()
+                : null;
+        if (!serverTiming && !budgetEnabled && isNull(event)) return chain.filter(exchange);
+
+        RequestTrace trace = new RequestTrace();
+        ServerHttpResponse response = exchange.getResponse();
+        if (serverTiming)
+            response.beforeCommit(() -> Mono.fromRunnable(() ->
+                    response.getHeaders().add(HEADER_NAME, trace.toServerTiming())));
+        if (nonNull(event)) event.begin();
+
+        return chain.filter(exchange)
+                .onErrorResume(OperationBudgetExceededException.class, ex -> reject(exchange, ex))
+                .doFinally(signal -> {
+                    if (budgetEnabled) record(exchange, trace);
+                    if (nonNull(event)) commit(event, exchange, trace);
+                    if (serverTiming && LOGGER.isDebugEnabled()) {
+                        ServerHttpRequest request = exchange.getRequest();
+                        LOGGER.debug("{} {} {} {}", request.getMethodValue(), request.getPath().value(),
+                                response.getStatusCode(), trace.toServerTiming());
+                    }
+                })
+                .subscriberContext(trace::putTo);
+    }
+
+    /**
+     * Set budget of Ignite operations for route of traced request and mark the moment its handler returns response.
+     *
+     * @param request request for handle.
+     * @param next    handler of request.
+     * @return response of handler.
+     */
+    @NonNull
+    @Override
+    public Mono<ServerResponse> filter(@NonNull ServerRequest request, @NonNull HandlerFunction<ServerResponse> next) {
+        return Mono.subscriberContext().flatMap(context -> {
+            Optional<RequestTrace> trace = RequestTrace.of(context);
+            if (!trace.isPresent()) return next.handle(request);
+            if (budgetEnabled) {
+                String uri = request.attribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE)
+                        .map(it -> ((PathPattern) it).getPatternString())
+                        .orElse(UNKNOWN_URI);
+                trace.get().budget(routeBudgets.getOrDefault(request.methodName() + " " + uri, defaultBudget), rejectOverBudget);
+            }
+            return next.handle(request).doOnSuccess(it -> trace.get().handled());
+        });
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Reject request that exceeds its budget of Ignite operations with status 503.
+     *
+     * @param exchange exchange of request and response.
+     * @param ex       exception of exceeded budget.
+     * @return completion of response or the same exception if response is already committed.
+     */
+    @NonNull
+    private Mono<Void> reject(@NonNull ServerWebExchange exchange, @NonNull OperationBudgetExceededException ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) return Mono.error(ex);
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        return response.setComplete();
+    }
+
+    /**
+     * Record Ignite operations of completed request for its route and log request over its budget.
+     *
+     * @param exchange exchange of request and response.
+     * @param trace    trace of request.
+     */
+    private void record(@NonNull ServerWebExchange exchange, @NonNull RequestTrace trace) {
+        String method = exchange.getRequest().getMethodValue();
+        PathPattern pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = nonNull(pattern) ? pattern.getPatternString() : UNKNOWN_URI;
+        operationsPerRequest.computeIfAbsent(method + " " + uri, it -> DistributionSummary.builder("persons.route.ignite.operations")
+                .description("Ignite operations issued for one request of route")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(registry))
+                .record(trace.getOperations());
+        if (trace.isOverBudget())
+            LOGGER.warn("{} {} issued {} Ignite operations over budget {}: {}", method, exchange.getRequest().getPath().value(),
+                    trace.getOperations(), trace.getBudget(), trace.getOperationsByKind());
+    }
+
+    /**
+     * Commit event of flight recorder for completed request.
+     *
+     * @param event    event of flight recorder.
+     * @param exchange exchange of request and response.
+     * @param trace    trace of request.
+     */
+    private void commit(@NonNull HttpRequestEvent event, @NonNull ServerWebExchange exchange, @NonNull RequestTrace trace) {
+        event.end();
+        if (!event.shouldCommit()) return;
+
+        ServerHttpRequest request = exchange.getRequest();
+        PathPattern pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        HttpStatus status = exchange.getResponse().getStatusCode();
+        event.method = request.getMethodValue();
+        event.route = nonNull(pattern) ? pattern.getPatternString() : request.getPath().value();
+        event.status = nonNull(status) ? status.value() : 0;
+        event.phases = trace.toServerTiming();
+        event.igniteOperations = trace.getOperations();
+        event.commit();
+    }
+    //</editor-fold>
+}
@@ -1,9 +1,14 @@
 package com.github.mikhailstepanov88.ignite_meetup.handler;
 
-import com.github.mikhailstepanov88.ignite_meetup.converter.NumberConverter;
+import com.github.mikhailstepanov88.ignite_meetup.converter.MediaTypeConverter;
+import com.github.mikhailstepanov88.ignite_meetup.converter.PersonBinaryConverter;
 import com.github.mikhailstepanov88.ignite_meetup.converter.PersonConverter;
 import com.github.mikhailstepanov88.ignite_meetup.data.dto.PersonDTO;
+import com.github.mikhailstepanov88.ignite_meetup.diagnostics.OperationBudgetExceededException;
+import com.github.mikhailstepanov88.ignite_meetup.matcher.PathVariables;
+import com.github.mikhailstepanov88.ignite_meetup.repository.ClusterInactiveException;
 import com.github.mikhailstepanov88.ignite_meetup.service.FriendsOfUserService;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
@@ -11,30 +16,35 @@ import reactor.core.publisher.Mono;
 import reactor.util.annotation.NonNull;
 import reactor.util.function.Tuples;
 
-import java.util.Optional;
-
+import static com.github.mikhailstepanov88.ignite_meetup.diagnostics.RequestTrace.phase;
 import static java.util.Objects.nonNull;
+import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8;
+import static org.springframework.http.MediaType.APPLICATION_STREAM_JSON;
 import static org.springframework.web.reactive.function.server.ServerResponse.*;
 
 @Component
 public class FriendsOfUserHandler {
-    private final NumberConverter numberConverter;
     private final PersonConverter personConverter;
+    private final PersonBinaryConverter personBinaryConverter;
+    private final MediaTypeConverter mediaTypeConverter;
     private final FriendsOfUserService service;
 
     //<editor-fold desc="constructors">
     /**
      * Constructor.
      *
-     * @param numberConverter converter from/to number.
-     * @param personConverter converter from/to person data transfer object.
-     * @param service         service for working with friends of user.
+     * @param personConverter       converter from/to person data transfer object.
+     * @param personBinaryConverter converter from binary person.
+     * @param mediaTypeConverter    converter to media type of response.
+     * @param service               service for working with friends of user.
      */
-    public FriendsOfUserHandler(@NonNull NumberConverter numberConverter,
-                                @NonNull PersonConverter personConverter,
+    public FriendsOfUserHandler(@NonNull PersonConverter personConverter,
+                                @NonNull PersonBinaryConverter personBinaryConverter,
+                                @NonNull MediaTypeConverter mediaTypeConverter,
                                 @NonNull FriendsOfUserService service) {
-        this.numberConverter = numberConverter;
         this.personConverter = personConverter;
+        this.personBinaryConverter = personBinaryConverter;
+        this.mediaTypeConverter = mediaTypeConverter;
         this.service = service;
     }
     //</editor-fold>
@@ -48,9 +58,9 @@ public class FriendsOfUserHandler {
     @NonNull
     public Mono<ServerResponse> handleCreate(@NonNull ServerRequest request) {
         return Mono.just(getUserIdFromRequest(request))
-                .zipWith(request.bodyToMono(PersonDTO.class))
+                .zipWith(phase("parse", request.bodyToMono(PersonDTO.class)))
                 .filter(it -> nonNull(it.getT2().getId()))
-                .flatMap(it -> service.createFriendOfUser(it.getT1(), it.getT2().getId()))
+                .flatMap(it -> phase("transaction", service.createFriendOfUser(it.getT1(), it.getT2().getId())))
                 .flatMap(it -> created(request.uriBuilder()
                         .path("/")
                         .path(it.toString())
@@ -67,12 +77,26 @@ public class FriendsOfUserHandler {
      */
     @NonNull
     public Mono<ServerResponse> handleReadAll(@NonNull ServerRequest request) {
-        return ok().body(
-                Mono.just(getUserIdFromRequest(request))
-                        .flatMapMany(service::readAllFriendsOfUser)
-                        .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2())),
-                PersonDTO.class
-        ).onErrorResume(this::exceptionToResponse);
+        if (isStreamAccepted(request))
+            return Mono.just(getUserIdFromRequest(request))
+                    .map(it -> phase("hydrate", service.streamAllFriendsOfUserBinary(it)))
+                    .flatMap(it -> ok().contentType(APPLICATION_STREAM_JSON)
+                            .body(personBinaryConverter.binaryToJsonStream(it)))
+                    .onErrorResume(this::exceptionToResponse);
+        MediaType mediaType = getMediaTypeOfResponse(request);
+        if (!APPLICATION_JSON_UTF8.equals(mediaType))
+            return ok().contentType(mediaType).body(
+                    Mono.just(getUserIdFromRequest(request))
+                            .flatMapMany(it -> phase("hydrate", service.readAllFriendsOfUser(it)))
+                            .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2())),
+                    PersonDTO.class
+            ).onErrorResume(this::exceptionToResponse);
+        return Mono.just(getUserIdFromRequest(request))
+                .flatMapMany(it -> phase("hydrate", service.readAllFriendsOfUserBinary(it)))
+                .collectList()
+                .flatMap(it -> ok().contentType(APPLICATION_JSON_UTF8)
+                        .body(personBinaryConverter.binaryToJson(it)))
+                .onErrorResume(this::exceptionToResponse);
     }
 
     /**
@@ -83,10 +107,18 @@ public class FriendsOfUserHandler {
      */
     @NonNull
     public Mono<ServerResponse> handleReadById(@NonNull ServerRequest request) {
+        MediaType mediaType = getMediaTypeOfResponse(request);
+        if (!APPLICATION_JSON_UTF8.equals(mediaType))
+            return Mono.just(Tuples.of(getUserIdFromRequest(request), getFriendIdFromRequest(request)))
+                    .flatMap(it -> phase("ignite", service.readFriendOfUserById(it.getT1(), it.getT2())))
+                    .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2()))
+                    .flatMap(it -> ok().contentType(mediaType).syncBody(it))
+                    .switchIfEmpty(notFound().build())
+                    .onErrorResume(this::exceptionToResponse);
         return Mono.just(Tuples.of(getUserIdFromRequest(request), getFriendIdFromRequest(request)))
-                .flatMap(it -> service.readFriendOfUserById(it.getT1(), it.getT2()))
-                .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2()))
-                .flatMap(it -> ok().syncBody(it))
+                .flatMap(it -> phase("ignite", service.readFriendOfUserBinaryById(it.getT1(), it.getT2())))
+                .map(it -> personBinaryConverter.binaryToJson(it.getT1(), it.getT2()))
+                .flatMap(it -> ok().contentType(APPLICATION_JSON_UTF8).body(it))
                 .switchIfEmpty(notFound().build())
                 .onErrorResume(this::exceptionToResponse);
     }
@@ -100,7 +132,7 @@ public class FriendsOfUserHandler {
     @NonNull
     public Mono<ServerResponse> handleDelete(@NonNull ServerRequest request) {
         return Mono.just(Tuples.of(getUserIdFromRequest(request), getFriendIdFromRequest(request)))
-                .flatMap(it -> service.deleteFriendOfUser(it.getT1(), it.getT2()))
+                .flatMap(it -> phase("transaction", service.deleteFriendOfUser(it.getT1(), it.getT2())))
                 .then(noContent().build())
                 .onErrorResume(this::exceptionToResponse);
     }
@@ -112,11 +144,11 @@ public class FriendsOfUserHandler {
      * @param request request for read.
      * @return identifier of user from request.
      */
-    @NonNull
-    private Long getUserIdFromRequest(@NonNull ServerRequest request) {
-        return Optional.of(request.pathVariable("userId"))
-                .flatMap(numberConverter::stringToLong)
-                .orElseThrow(() -> new IllegalArgumentException("Path variable with name \"userId\" is not valid"));
+    private long getUserIdFromRequest(@NonNull ServerRequest request) {
+        PathVariables variables = PathVariables.of(request);
+        if (!variables.isLong("userId"))
+            throw new IllegalArgumentException("Path variable with name \"userId\" is not valid");
+        return variables.getLong("userId");
     }
 
     /**
@@ -125,11 +157,33 @@ public class FriendsOfUserHandler {
      * @param request request for read.
      * @return identifier of user friend from request.
      */
+    private long getFriendIdFromRequest(@NonNull ServerRequest request) {
+        PathVariables variables = PathVariables.of(request);
+        if (!variables.isLong("friendId"))
+            throw new IllegalArgumentException("Path variable with name \"friendId\" is not valid");
+        return variables.getLong("friendId");
+    }
+
+    /**
+     * Get media type of response for request.
+     *
+     * @param request request for read.
+     * @return media type of response.
+     */
     @NonNull
-    private Long getFriendIdFromRequest(@NonNull ServerRequest request) {
-        return Optional.of(request.pathVariable("friendId"))
-                .flatMap(numberConverter::stringToLong)
-                .orElseThrow(() -> new IllegalArgumentException("Path variable with name \"friendId\" is not valid"));
+    private MediaType getMediaTypeOfResponse(@NonNull ServerRequest request) {
+        return mediaTypeConverter.acceptedToMediaType(request.headers().accept());
+    }
+
+    /**
+     * Check that the request accepts stream of JSON objects.
+     *
+     * @param request request for check.
+     * @return the request accepts stream of JSON objects or not.
+     */
+    private boolean isStreamAccepted(@NonNull ServerRequest request) {
+        return request.headers().accept().stream()
+                .anyMatch(APPLICATION_STREAM_JSON::equalsTypeAndSubtype);
     }
 
     /**
@@ -142,6 +196,8 @@ public class FriendsOfUserHandler {
     private Mono<ServerResponse> exceptionToResponse(@NonNull Throwable ex) {
         if (ex instanceof IllegalArgumentException)
             return badRequest().body(Mono.just(ex.getMessage()), String.class);
+        else if (ex instanceof OperationBudgetExceededException || ex instanceof ClusterInactiveException)
+            return status(503).body(Mono.just(ex.getMessage()), String.class);
         else
             return status(501).body(Mono.just("Something goes wrong"), String.class);
     }
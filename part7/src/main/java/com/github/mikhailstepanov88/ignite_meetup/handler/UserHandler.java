@@ -1,41 +1,59 @@
 package com.github.mikhailstepanov88.ignite_meetup.handler;
 
-import com.github.mikhailstepanov88.ignite_meetup.converter.NumberConverter;
+import com.github.mikhailstepanov88.ignite_meetup.converter.MediaTypeConverter;
+import com.github.mikhailstepanov88.ignite_meetup.converter.PersonBinaryConverter;
 import com.github.mikhailstepanov88.ignite_meetup.converter.PersonConverter;
 import com.github.mikhailstepanov88.ignite_meetup.data.dto.PersonDTO;
 import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
+import com.github.mikhailstepanov88.ignite_meetup.diagnostics.OperationBudgetExceededException;
+import com.github.mikhailstepanov88.ignite_meetup.matcher.PathVariables;
+import com.github.mikhailstepanov88.ignite_meetup.repository.ClusterInactiveException;
 import com.github.mikhailstepanov88.ignite_meetup.service.UserService;
+import org.apache.ignite.binary.BinaryObject;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 import reactor.util.annotation.NonNull;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuple3;
+import reactor.util.function.Tuples;
 
+import java.util.Map;
 import java.util.Optional;
 
+import static com.github.mikhailstepanov88.ignite_meetup.diagnostics.RequestTrace.phase;
+import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8;
+import static org.springframework.http.MediaType.APPLICATION_STREAM_JSON;
 import static org.springframework.web.reactive.function.server.ServerResponse.*;
 
 @Component
 public class UserHandler {
     private final UserService service;
-    private final NumberConverter numberConverter;
     private final PersonConverter personConverter;
+    private final PersonBinaryConverter personBinaryConverter;
+    private final MediaTypeConverter mediaTypeConverter;
 
     //<editor-fold desc="constructors">
     /**
      * Constructor.
      *
-     * @param service         service for working with users.
-     * @param numberConverter converter from/to number.
-     * @param personConverter converter from/to person data transfer object.
+     * @param service               service for working with users.
+     * @param personConverter       converter from/to person data transfer object.
+     * @param personBinaryConverter converter from binary person.
+     * @param mediaTypeConverter    converter to media type of response.
      */
     public UserHandler(@NonNull UserService service,
-                       @NonNull NumberConverter numberConverter,
-                       @NonNull PersonConverter personConverter) {
+                       @NonNull PersonConverter personConverter,
+                       @NonNull PersonBinaryConverter personBinaryConverter,
+                       @NonNull MediaTypeConverter mediaTypeConverter) {
         this.service = service;
-        this.numberConverter = numberConverter;
         this.personConverter = personConverter;
+        this.personBinaryConverter = personBinaryConverter;
+        this.mediaTypeConverter = mediaTypeConverter;
     }
     //</editor-fold>
 
@@ -47,9 +65,9 @@ public class UserHandler {
      */
     @NonNull
     public Mono<ServerResponse> handleCreate(@NonNull ServerRequest request) {
-        return request.bodyToMono(PersonDTO.class)
+        return phase("parse", request.bodyToMono(PersonDTO.class))
                 .map(personConverter::dtoToEntity)
-                .flatMap(service::createUser)
+                .flatMap(it -> phase("ignite", service.createUser(it)))
                 .flatMap(it -> created(request.uriBuilder()
                         .path("/")
                         .path(it.toString())
@@ -66,13 +84,27 @@ public class UserHandler {
      */
     @NonNull
     public Mono<ServerResponse> handleReadAll(@NonNull ServerRequest request) {
-        return ok().body(
-                service.readAllUsersByQuery(
-                        getFirstNameFromRequest(request).orElse(null),
-                        getLastNameFromRequest(request).orElse(null)
-                ).flatMap(this::getUserWithFriends),
-                PersonDTO.class
-        ).onErrorResume(this::exceptionToResponse);
+        String firstName = getFirstNameFromRequest(request).orElse(null);
+        String lastName = getLastNameFromRequest(request).orElse(null);
+        if (isStreamAccepted(request))
+            return ok().contentType(APPLICATION_STREAM_JSON)
+                    .body(personBinaryConverter.binaryWithFriendsToJsonStream(
+                            phase("ignite", service.readAllUsersBinaryByQuery(firstName, lastName))
+                                    .flatMap(it -> phase("hydrate", getUserBinaryFriends(it)))))
+                    .onErrorResume(this::exceptionToResponse);
+        MediaType mediaType = getMediaTypeOfResponse(request);
+        if (!APPLICATION_JSON_UTF8.equals(mediaType))
+            return ok().contentType(mediaType).body(
+                    phase("ignite", service.readAllUsersByQuery(firstName, lastName))
+                            .flatMap(it -> phase("hydrate", getUserWithFriends(it))),
+                    PersonDTO.class
+            ).onErrorResume(this::exceptionToResponse);
+        return phase("ignite", service.readAllUsersBinaryByQuery(firstName, lastName))
+                .flatMap(it -> phase("hydrate", getUserBinaryFriends(it)))
+                .collectList()
+                .flatMap(it -> ok().contentType(APPLICATION_JSON_UTF8)
+                        .body(personBinaryConverter.binaryWithFriendsToJson(it)))
+                .onErrorResume(this::exceptionToResponse);
     }
 
     /**
@@ -83,10 +115,18 @@ public class UserHandler {
      */
     @NonNull
     public Mono<ServerResponse> handleReadById(@NonNull ServerRequest request) {
+        MediaType mediaType = getMediaTypeOfResponse(request);
+        if (!APPLICATION_JSON_UTF8.equals(mediaType))
+            return Mono.just(getUserIdFromRequest(request))
+                    .flatMap(it -> phase("ignite", service.readUserById(it)))
+                    .flatMap(it -> phase("hydrate", getUserWithFriends(it)))
+                    .flatMap(it -> ok().contentType(mediaType).syncBody(it))
+                    .switchIfEmpty(notFound().build())
+                    .onErrorResume(this::exceptionToResponse);
         return Mono.just(getUserIdFromRequest(request))
-                .flatMap(service::readUserById)
-                .flatMap(this::getUserWithFriends)
-                .flatMap(it -> ok().syncBody(it))
+                .flatMap(it -> phase("ignite", service.readUserBinaryById(it)))
+                .flatMap(it -> phase("hydrate", getUserBinaryWithFriends(it)))
+                .flatMap(it -> ok().contentType(APPLICATION_JSON_UTF8).body(it))
                 .switchIfEmpty(notFound().build())
                 .onErrorResume(this::exceptionToResponse);
     }
@@ -100,11 +140,11 @@ public class UserHandler {
     @NonNull
     public Mono<ServerResponse> handleUpdate(@NonNull ServerRequest request) {
         return Mono.just(getUserIdFromRequest(request))
-                .zipWith(request.bodyToMono(PersonDTO.class))
-                .flatMap(it -> service.updateUser(it.getT1(),
-                        personConverter.dtoToEntity(it.getT2())))
+                .zipWith(phase("parse", request.bodyToMono(PersonDTO.class)))
+                .flatMap(it -> phase("ignite", service.updateUser(it.getT1(),
+                        personConverter.dtoToEntity(it.getT2()))))
                 .map(it -> personConverter.entityToDTO(it.getT1(), it.getT2()))
-                .flatMap(it -> ok().syncBody(it))
+                .flatMap(it -> ok().contentType(getMediaTypeOfResponse(request)).syncBody(it))
                 .switchIfEmpty(notFound().build())
                 .onErrorResume(this::exceptionToResponse);
     }
@@ -118,7 +158,7 @@ public class UserHandler {
     @NonNull
     public Mono<ServerResponse> handleDelete(@NonNull ServerRequest request) {
         return Mono.just(getUserIdFromRequest(request))
-                .flatMap(service::deleteUser)
+                .flatMap(it -> phase("ignite", service.deleteUser(it)))
                 .then(noContent().build())
                 .onErrorResume(this::exceptionToResponse);
     }
@@ -130,11 +170,11 @@ public class UserHandler {
      * @param request request for read.
      * @return identifier of user from request.
      */
-    @NonNull
-    private Long getUserIdFromRequest(@NonNull ServerRequest request) {
-        return Optional.of(request.pathVariable("userId"))
-                .flatMap(numberConverter::stringToLong)
-                .orElseThrow(() -> new IllegalArgumentException("Path variable with name \"userId\" is not valid"));
+    private long getUserIdFromRequest(@NonNull ServerRequest request) {
+        PathVariables variables = PathVariables.of(request);
+        if (!variables.isLong("userId"))
+            throw new IllegalArgumentException("Path variable with name \"userId\" is not valid");
+        return variables.getLong("userId");
     }
 
     /**
@@ -173,6 +213,55 @@ public class UserHandler {
                         user.getT1(), user.getT2(), friends));
     }
 
+    /**
+     * Get binary user with his friends as JSON body.
+     *
+     * @param user binary user for read.
+     * @return binary user with his friends as JSON body.
+     */
+    @NonNull
+    private Mono<BodyInserter<BinaryObject, ReactiveHttpOutputMessage>> getUserBinaryWithFriends(
+            @NonNull Tuple2<Long, BinaryObject> user) {
+        return getUserBinaryFriends(user)
+                .map(it -> personBinaryConverter.binaryToJson(it.getT1(), it.getT2(), it.getT3()));
+    }
+
+    /**
+     * Get binary user with his binary friends.
+     *
+     * @param user binary user for read.
+     * @return binary user with his binary friends.
+     */
+    @NonNull
+    private Mono<Tuple3<Long, BinaryObject, Map<Long, BinaryObject>>> getUserBinaryFriends(
+            @NonNull Tuple2<Long, BinaryObject> user) {
+        return service.readUsersBinaryByIds(personBinaryConverter.binaryToFriendIds(user.getT2()))
+                .collectMap(Tuple2::getT1, Tuple2::getT2)
+                .map(friends -> Tuples.of(user.getT1(), user.getT2(), friends));
+    }
+
+    /**
+     * Get media type of response for request.
+     *
+     * @param request request for read.
+     * @return media type of response.
+     */
+    @NonNull
+    private MediaType getMediaTypeOfResponse(@NonNull ServerRequest request) {
+        return mediaTypeConverter.acceptedToMediaType(request.headers().accept());
+    }
+
+    /**
+     * Check that the request accepts stream of JSON objects.
+     *
+     * @param request request for check.
+     * @return the request accepts stream of JSON objects or not.
+     */
+    private boolean isStreamAccepted(@NonNull ServerRequest request) {
+        return request.headers().accept().stream()
+                .anyMatch(APPLICATION_STREAM_JSON::equalsTypeAndSubtype);
+    }
+
     /**
      * Convert exception to server response.
      *
@@ -183,6 +272,8 @@ public class UserHandler {
     private Mono<ServerResponse> exceptionToResponse(@NonNull Throwable ex) {
         if (ex instanceof IllegalArgumentException)
             return badRequest().body(Mono.just(ex.getMessage()), String.class);
+        else if (ex instanceof OperationBudgetExceededException || ex instanceof ClusterInactiveException)
+            return status(503).body(Mono.just(ex.getMessage()), String.class);
         else
             return status(501).body(Mono.just("Something goes wrong"), String.class);
     }
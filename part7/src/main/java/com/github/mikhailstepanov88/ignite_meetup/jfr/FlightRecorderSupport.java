@@ -0,0 +1,47 @@
+package com.github.mikhailstepanov88.ignite_meetup.jfr;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class FlightRecorderSupport {
+    //<editor-fold desc="constants">
+    private static final String EVENT_CLASS_NAME = "jdk.jfr.Event";
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlightRecorderSupport.class);
+    private static final boolean AVAILABLE = available();
+    //</editor-fold>
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     */
+    private FlightRecorderSupport() {
+    }
+    //</editor-fold>
+
+    /**
+     * Check that API of flight recorder exists in runtime.
+     * Java 8 before update 262 has no jdk.jfr, so events of this package must not be loaded there.
+     *
+     * @return API of flight recorder exists or not.
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Check once that class of flight recorder events can be loaded.
+     *
+     * @return API of flight recorder exists or not.
+     */
+    private static boolean available() {
+        try {
+            Class.forName(EVENT_CLASS_NAME, false, FlightRecorderSupport.class.getClassLoader());
+            return true;
+        } catch (final ClassNotFoundException | LinkageError ex) {
+            LOGGER.info("Flight recorder isn't available in this runtime, its events are disabled");
+            return false;
+        }
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,49 @@
+package com.github.mikhailstepanov88.ignite_meetup.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("ignite_meetup.HttpRequest")
+@Label("HTTP Request")
+@Description("HTTP request from the first web filter to the end of response writing")
+@Category({"Ignite Meetup", "HTTP"})
+@Enabled(false)
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+    //<editor-fold desc="constants">
+    private static final EventType TYPE = EventType.getEventType(HttpRequestEvent.class);
+    //</editor-fold>
+
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    @Description("Pattern of matched route or path if request isn't routed")
+    public String route;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Phases")
+    @Description("Durations of request phases in Server-Timing format")
+    public String phases;
+
+    @Label("Ignite Operations")
+    public int igniteOperations;
+
+    /**
+     * Check that event is enabled by settings of recording.
+     * Checked before creation of event, so nothing is allocated when recording is off.
+     *
+     * @return event is enabled or not.
+     */
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.mikhailstepanov88.ignite_meetup.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("ignite_meetup.IgniteOperation")
+@Label("Ignite Operation")
+@Description("Operation of persons repository from creation of its Ignite future to completion")
+@Category({"Ignite Meetup", "Ignite"})
+@Enabled(false)
+@StackTrace(false)
+public class IgniteOperationEvent extends Event {
+    //<editor-fold desc="constants">
+    private static final EventType TYPE = EventType.getEventType(IgniteOperationEvent.class);
+    //</editor-fold>
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Keys")
+    @Description("Count of keys of operation, zero for scans")
+    public int keys;
+
+    @Label("Outcome")
+    @Description("SUCCESS, ERROR or CANCEL")
+    public String outcome;
+
+    /**
+     * Check that event is enabled by settings of recording.
+     * Checked before creation of event, so nothing is allocated when recording is off.
+     *
+     * @return event is enabled or not.
+     */
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.mikhailstepanov88.ignite_meetup.matcher;
+
+import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.util.annotation.NonNull;
+
+public class PathVariables {
+    //<editor-fold desc="constants">
+    public static final String ATTRIBUTE = PathVariables.class.getName();
+    private static final PathVariables EMPTY = new PathVariables(new String[0], new long[0], new boolean[0]);
+    //</editor-fold>
+
+    private final String[] names;
+    private final long[] values;
+    private final boolean[] valid;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param names  names of path variables.
+     * @param values values of path variables.
+     * @param valid  flags of path variables that are valid long values.
+     */
+    PathVariables(@NonNull String[] names, @NonNull long[] values, @NonNull boolean[] valid) {
+        this.names = names;
+        this.values = values;
+        this.valid = valid;
+    }
+    //</editor-fold>
+
+    /**
+     * Get path variables of routed request.
+     *
+     * @param request request for read.
+     * @return path variables of request.
+     */
+    @NonNull
+    public static PathVariables of(@NonNull ServerRequest request) {
+        return request.attribute(ATTRIBUTE)
+                .map(PathVariables.class::cast)
+                .orElse(EMPTY);
+    }
+
+    /**
+     * Check that path variable with entered name exists and is valid long value.
+     *
+     * @param name name of path variable.
+     * @return path variable is valid long value or not.
+     */
+    public boolean isLong(@NonNull String name) {
+        int index = indexOf(name);
+        return index >= 0 && valid[index];
+    }
+
+    /**
+     * Get long value of path variable with entered name.
+     * The variable must be checked by {@link #isLong(String)} before.
+     *
+     * @param name name of path variable.
+     * @return long value of path variable.
+     */
+    public long getLong(@NonNull String name) {
+        return values[indexOf(name)];
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Get index of path variable with entered name.
+     *
+     * @param name name of path variable.
+     * @return index of path variable or -1 if it doesn't exist.
+     */
+    private int indexOf(@NonNull String name) {
+        for (int index = 0; index < names.length; index++)
+            if (names[index].equals(name))
+                return index;
+        return -1;
+    }
+    //</editor-fold>
+}
\ No newline at end of file
@@ -0,0 +1,241 @@
+package com.github.mikhailstepanov88.ignite_meetup.matcher;
+
+import com.github.mikhailstepanov88.ignite_meetup.converter.NumberConverter;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class RouteTable implements RouterFunction<ServerResponse> {
+    private final NumberConverter numberConverter;
+    private final PathPatternParser patternParser = new PathPatternParser();
+    private final Node root = new Node();
+    private int maxVariables;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param numberConverter converter from/to number.
+     */
+    public RouteTable(@NonNull NumberConverter numberConverter) {
+        this.numberConverter = numberConverter;
+    }
+    //</editor-fold>
+
+    /**
+     * Add route to the table.
+     * Segments of path pattern in braces are path variables with long values.
+     *
+     * @param method    method of request.
+     * @param pattern   pattern of request path.
+     * @param predicate predicate for the rest of request, e.g. its media types.
+     * @param handler   handler of request.
+     * @return this table.
+     */
+    @NonNull
+    public RouteTable add(@NonNull HttpMethod method,
+                          @NonNull String pattern,
+                          @NonNull RequestPredicate predicate,
+                          @NonNull HandlerFunction<ServerResponse> handler) {
+        Node node = root;
+        List<String> variableNames = new ArrayList<>();
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty()) continue;
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                variableNames.add(segment.substring(1, segment.length() - 1));
+                node = node.variableChild();
+            } else {
+                node = node.literalChild(segment);
+            }
+        }
+        node.routes.computeIfAbsent(method, it -> new ArrayList<>())
+                .add(new Route(patternParser.parse(pattern), predicate, handler, variableNames.toArray(new String[0])));
+        maxVariables = Math.max(maxVariables, variableNames.size());
+        return this;
+    }
+
+    /**
+     * Route request to its handler.
+     * Path variables of matched route are put to request attribute {@link PathVariables#ATTRIBUTE},
+     * pattern of matched route is put to request attribute {@link HandlerMapping#BEST_MATCHING_PATTERN_ATTRIBUTE}.
+     *
+     * @param request request for route.
+     * @return handler of request or empty if request isn't matched.
+     */
+    @NonNull
+    @Override
+    public Mono<HandlerFunction<ServerResponse>> route(@NonNull ServerRequest request) {
+        HttpMethod method = request.method();
+        if (isNull(method)) return Mono.empty();
+
+        String path = request.path();
+        int end = path.length();
+        if (end > 1 && path.charAt(end - 1) == '/') end--;
+
+        int[] bounds = new int[maxVariables * 2];
+        Node node = match(root, path, 1, end, bounds, 0);
+        if (isNull(node)) return Mono.empty();
+
+        List<Route> routes = node.routes.get(method);
+        if (isNull(routes)) return Mono.empty();
+
+        for (Route route : routes) {
+            if (!route.predicate.test(request)) continue;
+            request.attributes().put(PathVariables.ATTRIBUTE, pathVariables(route, path, bounds));
+            request.attributes().put(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route.pattern);
+            return Mono.just(route.handler);
+        }
+        return Mono.empty();
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Match path to node of the table. Literal segments are preferred to path variables.
+     *
+     * @param node     node for match.
+     * @param path     path of request.
+     * @param start    index of the first char of the current segment.
+     * @param end      index after the last char of the path.
+     * @param bounds   bounds of matched path variables.
+     * @param variable index of the next path variable.
+     * @return matched node or null if path isn't matched.
+     */
+    @Nullable
+    private Node match(@NonNull Node node,
+                       @NonNull String path,
+                       int start,
+                       int end,
+                       @NonNull int[] bounds,
+                       int variable) {
+        if (start > end) return node;
+
+        int segmentEnd = path.indexOf('/', start);
+        if (segmentEnd < 0 || segmentEnd > end) segmentEnd = end;
+        int length = segmentEnd - start;
+        if (length == 0) return null;
+
+        for (int index = 0; index < node.literals.length; index++) {
+            String literal = node.literals[index];
+            if (literal.length() != length || !path.regionMatches(start, literal, 0, length)) continue;
+
+            Node matched = match(node.literalChildren[index], path, segmentEnd + 1, end, bounds, variable);
+            if (nonNull(matched)) return matched;
+        }
+
+        if (isNull(node.variableChild) || variable * 2 >= bounds.length) return null;
+        bounds[variable * 2] = start;
+        bounds[variable * 2 + 1] = segmentEnd;
+        return match(node.variableChild, path, segmentEnd + 1, end, bounds, variable + 1);
+    }
+
+    /**
+     * Parse path variables of matched route.
+     *
+     * @param route  matched route.
+     * @param path   path of request.
+     * @param bounds bounds of matched path variables.
+     * @return path variables of route.
+     */
+    @NonNull
+    private PathVariables pathVariables(@NonNull Route route, @NonNull String path, @NonNull int[] bounds) {
+        int count = route.variableNames.length;
+        long[] values = new long[count];
+        boolean[] valid = new boolean[count];
+        for (int index = 0; index < count; index++) {
+            int start = bounds[index * 2];
+            int end = bounds[index * 2 + 1];
+            valid[index] = numberConverter.isLong(path, start, end);
+            if (valid[index]) values[index] = numberConverter.charsToLong(path, start, end);
+        }
+        return new PathVariables(route.variableNames, values, valid);
+    }
+    //</editor-fold>
+
+    /**
+     * Node of the table for one segment of path.
+     */
+    private static class Node {
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        @Nullable
+        private Node variableChild;
+        private final Map<HttpMethod, List<Route>> routes = new EnumMap<>(HttpMethod.class);
+
+        /**
+         * Get or create child node for literal segment.
+         *
+         * @param literal literal segment.
+         * @return child node.
+         */
+        @NonNull
+        private Node literalChild(@NonNull String literal) {
+            for (int index = 0; index < literals.length; index++)
+                if (literals[index].equals(literal))
+                    return literalChildren[index];
+
+            Node child = new Node();
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literals[literals.length - 1] = literal;
+            literalChildren[literalChildren.length - 1] = child;
+            return child;
+        }
+
+        /**
+         * Get or create child node for path variable.
+         *
+         * @return child node.
+         */
+        @NonNull
+        private Node variableChild() {
+            if (isNull(variableChild)) variableChild = new Node();
+            return variableChild;
+        }
+    }
+
+    /**
+     * Route of the table.
+     */
+    private static class Route {
+        private final PathPattern pattern;
+        private final RequestPredicate predicate;
+        private final HandlerFunction<ServerResponse> handler;
+        private final String[] variableNames;
+
+        /**
+         * Constructor.
+         *
+         * @param pattern       pattern of request path.
+         * @param predicate     predicate for the rest of request.
+         * @param handler       handler of request.
+         * @param variableNames names of path variables.
+         */
+        private Route(@NonNull PathPattern pattern,
+                      @NonNull RequestPredicate predicate,
+                      @NonNull HandlerFunction<ServerResponse> handler,
+                      @NonNull String[] variableNames) {
+            this.pattern = pattern;
+            this.predicate = predicate;
+            this.handler = handler;
+            this.variableNames = variableNames;
+        }
+    }
+}
\ No newline at end of file
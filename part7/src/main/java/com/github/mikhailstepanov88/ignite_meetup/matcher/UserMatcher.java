@@ -1,76 +1,75 @@
 package com.github.mikhailstepanov88.ignite_meetup.matcher;
 
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RequestPredicate;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import reactor.util.annotation.NonNull;
 
+import static com.github.mikhailstepanov88.ignite_meetup.codec.CodecMediaTypes.APPLICATION_CBOR;
+import static com.github.mikhailstepanov88.ignite_meetup.codec.CodecMediaTypes.APPLICATION_SMILE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8;
-import static org.springframework.web.reactive.function.server.RequestPredicates.*;
+import static org.springframework.http.MediaType.APPLICATION_STREAM_JSON;
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
 
 @Component
 public class UserMatcher {
+    //<editor-fold desc="constants">
+    private static final RequestPredicate MEDIA_TYPES =
+            accept(APPLICATION_JSON_UTF8, APPLICATION_SMILE, APPLICATION_CBOR)
+                    .and(contentType(APPLICATION_JSON_UTF8, APPLICATION_SMILE, APPLICATION_CBOR));
+    private static final RequestPredicate STREAM_MEDIA_TYPES =
+            accept(APPLICATION_JSON_UTF8, APPLICATION_STREAM_JSON, APPLICATION_SMILE, APPLICATION_CBOR)
+                    .and(contentType(APPLICATION_JSON_UTF8, APPLICATION_SMILE, APPLICATION_CBOR));
+    //</editor-fold>
+
     /**
-     * Check that the request matched to the create operation.
+     * Check that media types of the request matched to the create operation.
      *
      * @param request request for check.
-     * @return the request matched to the create operation or not.
+     * @return media types of the request matched to the create operation or not.
      */
     public boolean matchCreate(@NonNull ServerRequest request) {
-        return POST("/users")
-                .and(accept(APPLICATION_JSON_UTF8))
-                .and(contentType(APPLICATION_JSON_UTF8))
-                .test(request);
+        return MEDIA_TYPES.test(request);
     }
 
     /**
-     * Check that the request matched to the read all operation.
+     * Check that media types of the request matched to the read all operation.
      *
      * @param request request for check.
-     * @return the request matched to the read all operation or not.
+     * @return media types of the request matched to the read all operation or not.
      */
     public boolean matchReadAll(@NonNull ServerRequest request) {
-        return GET("/users")
-                .and(accept(APPLICATION_JSON_UTF8))
-                .and(contentType(APPLICATION_JSON_UTF8))
-                .test(request);
+        return STREAM_MEDIA_TYPES.test(request);
     }
 
     /**
-     * Check that the request matched to the read by identifier operation.
+     * Check that media types of the request matched to the read by identifier operation.
      *
      * @param request request for check.
-     * @return the request matched to the read by identifier operation or not.
+     * @return media types of the request matched to the read by identifier operation or not.
      */
     public boolean matchReadById(@NonNull ServerRequest request) {
-        return GET("/users/{userId}")
-                .and(accept(APPLICATION_JSON_UTF8))
-                .and(contentType(APPLICATION_JSON_UTF8))
-                .test(request);
+        return MEDIA_TYPES.test(request);
     }
 
     /**
-     * Check that the request matched to the update operation.
+     * Check that media types of the request matched to the update operation.
      *
      * @param request request for check.
-     * @return the request matched to the update operation or not.
+     * @return media types of the request matched to the update operation or not.
      */
     public boolean matchUpdate(@NonNull ServerRequest request) {
-        return PUT("/users/{userId}")
-                .and(accept(APPLICATION_JSON_UTF8))
-                .and(contentType(APPLICATION_JSON_UTF8))
-                .test(request);
+        return MEDIA_TYPES.test(request);
     }
 
     /**
-     * Check that the request matched to the delete operation.
+     * Check that media types of the request matched to the delete operation.
      *
      * @param request request for check.
-     * @return the request matched to the delete operation or not.
+     * @return media types of the request matched to the delete operation or not.
      */
     public boolean matchDelete(@NonNull ServerRequest request) {
-        return DELETE("/users/{userId}")
-                .and(accept(APPLICATION_JSON_UTF8))
-                .and(contentType(APPLICATION_JSON_UTF8))
-                .test(request);
+        return MEDIA_TYPES.test(request);
     }
 }
\ No newline at end of file
@@ -0,0 +1,357 @@
+package com.github.mikhailstepanov88.ignite_meetup.metrics;
+
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.ignite.DataRegionMetrics;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteCluster;
+import org.apache.ignite.cache.CacheMetrics;
+import org.apache.ignite.cache.affinity.Affinity;
+import org.apache.ignite.cluster.ClusterGroup;
+import org.apache.ignite.cluster.ClusterMetrics;
+import org.apache.ignite.cluster.ClusterNode;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Component
+public class IgniteMetrics implements MeterBinder {
+    //<editor-fold desc="constants">
+    private static final String CACHE_NAME = "persons";
+    private static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(10);
+    //</editor-fold>
+
+    private final Ignite client;
+    private final long interval;
+    @Nullable
+    private final String regionName;
+    private final Scheduler scheduler;
+    private final Tags cacheTags = Tags.of("cache", CACHE_NAME);
+    private final Set<String> partitionNodes = ConcurrentHashMap.newKeySet();
+
+    @Nullable
+    private volatile MeterRegistry registry;
+    @Nullable
+    private volatile Counter sampleErrors;
+    @Nullable
+    private volatile Disposable sampleTask;
+    @Nullable
+    private volatile CacheMetrics cacheMetrics;
+    @Nullable
+    private volatile ClusterMetrics serverMetrics;
+    @Nullable
+    private volatile DataRegionMetrics regionMetrics;
+    private volatile ClusterState clusterState = new ClusterState(0, 0, 0, false);
+    private volatile Map<String, int[]> partitions = Collections.emptyMap();
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param client     client to database.
+     * @param properties properties of Ignite database.
+     */
+    public IgniteMetrics(@NonNull Ignite client, @NonNull IgniteDatabaseProperties properties) {
+        this.client = client;
+        this.interval = Optional.ofNullable(properties.getMetricsInterval()).orElse(DEFAULT_INTERVAL).toMillis();
+        this.regionName = properties.getDataRegion().getName();
+        this.scheduler = Schedulers.newSingle("ignite-metrics-sampler", true);
+    }
+    //</editor-fold>
+
+    /**
+     * Bind metrics of cluster and persons cache to registry and start their periodic sampling.
+     * Gauges read the last sample, so scraping of metrics never calls the cluster.
+     *
+     * @param registry registry of metrics.
+     */
+    @Override
+    public synchronized void bindTo(@NonNull MeterRegistry registry) {
+        if (nonNull(this.registry)) return;
+        this.registry = registry;
+        this.sampleErrors = Counter.builder("ignite.metrics.sample.errors")
+                .description("Failed samples of Ignite metrics")
+                .register(registry);
+
+        bindClusterMetrics(registry);
+        bindCacheMetrics(registry);
+        bindRegionMetrics(registry);
+        sample();
+        sampleTask = scheduler.schedulePeriodically(this::sample, interval, interval, MILLISECONDS);
+    }
+
+    /**
+     * Stop sampling of metrics.
+     */
+    @PreDestroy
+    public void close() {
+        Optional.ofNullable(sampleTask).ifPresent(Disposable::dispose);
+        scheduler.dispose();
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Bind metrics of cluster topology and server nodes.
+     *
+     * @param registry registry of metrics.
+     */
+    private void bindClusterMetrics(@NonNull MeterRegistry registry) {
+        Gauge.builder("ignite.cluster.topology.version", this, it -> it.clusterState.topologyVersion)
+                .description("Version of cluster topology")
+                .register(registry);
+        Gauge.builder("ignite.cluster.nodes", this, it -> it.clusterState.servers)
+                .description("Nodes of cluster")
+                .tag("type", "server")
+                .register(registry);
+        Gauge.builder("ignite.cluster.nodes", this, it -> it.clusterState.clients)
+                .description("Nodes of cluster")
+                .tag("type", "client")
+                .register(registry);
+        Gauge.builder("ignite.cluster.active", this, it -> it.clusterState.active ? 1 : 0)
+                .description("Cluster is active or not")
+                .register(registry);
+        serverGauge(registry, "ignite.cluster.heap.used", "bytes", ClusterMetrics::getHeapMemoryUsed);
+        serverGauge(registry, "ignite.cluster.heap.max", "bytes", ClusterMetrics::getHeapMemoryMaximum);
+        serverGauge(registry, "ignite.cluster.cpu.load", null, ClusterMetrics::getCurrentCpuLoad);
+        serverGauge(registry, "ignite.cluster.gc.cpu.load", null, ClusterMetrics::getCurrentGcCpuLoad);
+    }
+
+    /**
+     * Bind metrics of persons cache aggregated over all server nodes.
+     *
+     * @param registry registry of metrics.
+     */
+    private void bindCacheMetrics(@NonNull MeterRegistry registry) {
+        cacheCounter(registry, "ignite.cache.gets", CacheMetrics::getCacheGets);
+        cacheCounter(registry, "ignite.cache.puts", CacheMetrics::getCachePuts);
+        cacheCounter(registry, "ignite.cache.removals", CacheMetrics::getCacheRemovals);
+        cacheCounter(registry, "ignite.cache.hits", CacheMetrics::getCacheHits);
+        cacheCounter(registry, "ignite.cache.misses", CacheMetrics::getCacheMisses);
+        cacheCounter(registry, "ignite.cache.evictions", CacheMetrics::getCacheEvictions);
+        cacheCounter(registry, "ignite.cache.offheap.hits", CacheMetrics::getOffHeapHits);
+        cacheCounter(registry, "ignite.cache.offheap.misses", CacheMetrics::getOffHeapMisses);
+        cacheCounter(registry, "ignite.cache.offheap.evictions", CacheMetrics::getOffHeapEvictions);
+        cacheCounter(registry, "ignite.cache.tx.commits", CacheMetrics::getCacheTxCommits);
+        cacheCounter(registry, "ignite.cache.tx.rollbacks", CacheMetrics::getCacheTxRollbacks);
+        cacheGauge(registry, "ignite.cache.get.time.average", "microseconds", CacheMetrics::getAverageGetTime);
+        cacheGauge(registry, "ignite.cache.put.time.average", "microseconds", CacheMetrics::getAveragePutTime);
+        cacheGauge(registry, "ignite.cache.remove.time.average", "microseconds", CacheMetrics::getAverageRemoveTime);
+        cacheGauge(registry, "ignite.cache.tx.commit.time.average", "microseconds", CacheMetrics::getAverageTxCommitTime);
+        cacheGauge(registry, "ignite.cache.tx.rollback.time.average", "microseconds", CacheMetrics::getAverageTxRollbackTime);
+        cacheGauge(registry, "ignite.cache.offheap.allocated", "bytes", CacheMetrics::getOffHeapAllocatedSize);
+        cacheGauge(registry, "ignite.cache.offheap.entries", null, CacheMetrics::getOffHeapEntriesCount);
+        cacheGauge(registry, "ignite.cache.offheap.primary.entries", null, CacheMetrics::getOffHeapPrimaryEntriesCount);
+        cacheGauge(registry, "ignite.cache.offheap.backup.entries", null, CacheMetrics::getOffHeapBackupEntriesCount);
+        cacheGauge(registry, "ignite.cache.heap.entries", null, CacheMetrics::getHeapEntriesCount);
+        cacheGauge(registry, "ignite.cache.partitions.total", null, CacheMetrics::getTotalPartitionsCount);
+        cacheGauge(registry, "ignite.cache.rebalancing.partitions", null, CacheMetrics::getRebalancingPartitionsCount);
+        cacheGauge(registry, "ignite.cache.rebalancing.keys.left", null, CacheMetrics::getKeysToRebalanceLeft);
+        cacheGauge(registry, "ignite.cache.rebalancing.keys.rate", null, CacheMetrics::getRebalancingKeysRate);
+    }
+
+    /**
+     * Bind metrics of data region of persons on local node.
+     * Region exists only on server node, so gauges aren't bound in client mode or without dedicated region.
+     *
+     * @param registry registry of metrics.
+     */
+    private void bindRegionMetrics(@NonNull MeterRegistry registry) {
+        if (isNull(regionName) || client.configuration().isClientMode()) return;
+
+        regionGauge(registry, "ignite.region.pages.allocated", null, DataRegionMetrics::getTotalAllocatedPages);
+        regionGauge(registry, "ignite.region.pages.fill.factor", null, DataRegionMetrics::getPagesFillFactor);
+        regionGauge(registry, "ignite.region.pages.replace.rate", null, DataRegionMetrics::getPagesReplaceRate);
+        regionGauge(registry, "ignite.region.allocation.rate", null, DataRegionMetrics::getAllocationRate);
+        regionGauge(registry, "ignite.region.eviction.rate", null, DataRegionMetrics::getEvictionRate);
+        regionGauge(registry, "ignite.region.memory.physical", "bytes", DataRegionMetrics::getPhysicalMemorySize);
+    }
+
+    /**
+     * Register gauge of server nodes metrics.
+     *
+     * @param registry registry of metrics.
+     * @param name     name of gauge.
+     * @param unit     base unit of gauge.
+     * @param value    value of gauge.
+     */
+    private void serverGauge(@NonNull MeterRegistry registry,
+                             @NonNull String name,
+                             @Nullable String unit,
+                             @NonNull ToDoubleFunction<ClusterMetrics> value) {
+        Gauge.builder(name, this, it -> isNull(it.serverMetrics) ? Double.NaN : value.applyAsDouble(it.serverMetrics))
+                .description("Metric of server nodes aggregated over cluster")
+                .baseUnit(unit)
+                .register(registry);
+    }
+
+    /**
+     * Register gauge of persons cache metrics.
+     *
+     * @param registry registry of metrics.
+     * @param name     name of gauge.
+     * @param unit     base unit of gauge.
+     * @param value    value of gauge.
+     */
+    private void cacheGauge(@NonNull MeterRegistry registry,
+                            @NonNull String name,
+                            @Nullable String unit,
+                            @NonNull ToDoubleFunction<CacheMetrics> value) {
+        Gauge.builder(name, this, it -> isNull(it.cacheMetrics) ? Double.NaN : value.applyAsDouble(it.cacheMetrics))
+                .description("Metric of cache aggregated over cluster")
+                .tags(cacheTags)
+                .baseUnit(unit)
+                .register(registry);
+    }
+
+    /**
+     * Register gauge of data region metrics of local node.
+     *
+     * @param registry registry of metrics.
+     * @param name     name of gauge.
+     * @param unit     base unit of gauge.
+     * @param value    value of gauge.
+     */
+    private void regionGauge(@NonNull MeterRegistry registry,
+                             @NonNull String name,
+                             @Nullable String unit,
+                             @NonNull ToDoubleFunction<DataRegionMetrics> value) {
+        Gauge.builder(name, this, it -> isNull(it.regionMetrics) ? Double.NaN : value.applyAsDouble(it.regionMetrics))
+                .description("Metric of data region of local node")
+                .tag("region", String.valueOf(regionName))
+                .baseUnit(unit)
+                .register(registry);
+    }
+
+    /**
+     * Register counter of persons cache metrics. Ignite counts operations since start of cache,
+     * so rates are computed by monitoring system.
+     *
+     * @param registry registry of metrics.
+     * @param name     name of counter.
+     * @param value    value of counter.
+     */
+    private void cacheCounter(@NonNull MeterRegistry registry,
+                              @NonNull String name,
+                              @NonNull ToDoubleFunction<CacheMetrics> value) {
+        FunctionCounter.builder(name, this, it -> isNull(it.cacheMetrics) ? 0 : value.applyAsDouble(it.cacheMetrics))
+                .description("Operations of cache aggregated over cluster")
+                .tags(cacheTags)
+                .register(registry);
+    }
+
+    /**
+     * Sample metrics of cluster and persons cache.
+     */
+    private void sample() {
+        try {
+            if (nonNull(regionName)) regionMetrics = client.dataRegionMetrics(regionName);
+
+            IgniteCluster cluster = client.cluster();
+            ClusterGroup servers = cluster.forServers();
+            clusterState = new ClusterState(cluster.topologyVersion(), servers.nodes().size(),
+                    cluster.forClients().nodes().size(), cluster.active());
+            if (servers.nodes().isEmpty()) return;
+
+            serverMetrics = servers.metrics();
+            IgniteCache<?, ?> cache = client.cache(CACHE_NAME);
+            if (isNull(cache)) return;
+            cacheMetrics = cache.metrics();
+            samplePartitions(servers);
+        } catch (final RuntimeException ex) {
+            Optional.ofNullable(sampleErrors).ifPresent(Counter::increment);
+        }
+    }
+
+    /**
+     * Sample distribution of persons cache partitions over server nodes.
+     *
+     * @param servers server nodes of cluster.
+     */
+    private void samplePartitions(@NonNull ClusterGroup servers) {
+        Affinity<Object> affinity = client.affinity(CACHE_NAME);
+        Map<String, int[]> sampled = new HashMap<>();
+        for (ClusterNode node : servers.nodes()) {
+            String nodeId = String.valueOf(node.consistentId());
+            sampled.put(nodeId, new int[]{
+                    affinity.primaryPartitions(node).length,
+                    affinity.backupPartitions(node).length});
+        }
+        partitions = sampled;
+
+        MeterRegistry registry = this.registry;
+        if (isNull(registry)) return;
+        for (String nodeId : sampled.keySet()) {
+            if (!partitionNodes.add(nodeId)) continue;
+            partitionGauge(registry, nodeId, "primary", 0);
+            partitionGauge(registry, nodeId, "backup", 1);
+        }
+    }
+
+    /**
+     * Register gauge of persons cache partitions owned by server node.
+     * Gauge shows zero when node leaves cluster.
+     *
+     * @param registry registry of metrics.
+     * @param nodeId   consistent identifier of server node.
+     * @param type     type of partitions.
+     * @param index    index of partitions count in sample.
+     */
+    private void partitionGauge(@NonNull MeterRegistry registry, @NonNull String nodeId, @NonNull String type, int index) {
+        Gauge.builder("ignite.cache.partitions", this,
+                it -> Optional.ofNullable(it.partitions.get(nodeId)).map(counts -> counts[index]).orElse(0))
+                .description("Partitions of cache owned by server node")
+                .tags(cacheTags)
+                .tag("node", nodeId)
+                .tag("type", type)
+                .register(registry);
+    }
+    //</editor-fold>
+
+    /**
+     * Sampled state of cluster.
+     */
+    private static class ClusterState {
+        private final long topologyVersion;
+        private final int servers;
+        private final int clients;
+        private final boolean active;
+
+        /**
+         * Constructor.
+         *
+         * @param topologyVersion version of cluster topology.
+         * @param servers         count of server nodes.
+         * @param clients         count of client nodes.
+         * @param active          cluster is active or not.
+         */
+        private ClusterState(long topologyVersion, int servers, int clients, boolean active) {
+            this.topologyVersion = topologyVersion;
+            this.servers = servers;
+            this.clients = clients;
+            this.active = active;
+        }
+    }
+}
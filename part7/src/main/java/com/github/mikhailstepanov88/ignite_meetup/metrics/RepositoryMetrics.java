@@ -0,0 +1,265 @@
+package com.github.mikhailstepanov88.ignite_meetup.metrics;
+
+import com.github.mikhailstepanov88.ignite_meetup.diagnostics.IgniteOperation;
+import com.github.mikhailstepanov88.ignite_meetup.diagnostics.RequestTrace;
+import com.github.mikhailstepanov88.ignite_meetup.jfr.FlightRecorderSupport;
+import com.github.mikhailstepanov88.ignite_meetup.jfr.IgniteOperationEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ignite.lang.IgniteFuture;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@Component
+public class RepositoryMetrics {
+    //<editor-fold desc="constants">
+    private static final String CACHE_NAME = "persons";
+    //</editor-fold>
+
+    private final MeterRegistry registry;
+    private final Map<String, OperationMeters> operations = new ConcurrentHashMap<>();
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param registry registry of metrics.
+     */
+    public RepositoryMetrics(@NonNull MeterRegistry registry) {
+        this.registry = registry;
+    }
+    //</editor-fold>
+
+    /**
+     * Measure future of Ignite for single key from its creation to its completion.
+     *
+     * @param operation      name of repository operation.
+     * @param igniteFuture   future of Ignite for measure.
+     * @param <TypeOfResult> type of result.
+     * @return the same future.
+     */
+    @NonNull
+    public <TypeOfResult> IgniteFuture<TypeOfResult> measure(@NonNull String operation,
+                                                             @NonNull IgniteFuture<TypeOfResult> igniteFuture) {
+        return measure(operation, 1, igniteFuture);
+    }
+
+    /**
+     * Measure future of Ignite from its creation to its completion.
+     *
+     * @param operation      name of repository operation.
+     * @param keys           count of keys of operation.
+     * @param igniteFuture   future of Ignite for measure.
+     * @param <TypeOfResult> type of result.
+     * @return the same future.
+     */
+    @NonNull
+    public <TypeOfResult> IgniteFuture<TypeOfResult> measure(@NonNull String operation,
+                                                             int keys,
+                                                             @NonNull IgniteFuture<TypeOfResult> igniteFuture) {
+        Measurement measurement = metersOf(operation).start(keys);
+        igniteFuture.listen(future -> {
+            try {
+                future.get();
+                measurement.complete(Outcome.SUCCESS);
+            } catch (final RuntimeException ex) {
+                measurement.complete(Outcome.ERROR);
+            }
+        });
+        return igniteFuture;
+    }
+
+    /**
+     * Measure mono for single key from its subscription to its termination.
+     *
+     * @param operation      name of repository operation.
+     * @param kind           kind of Ignite operation.
+     * @param mono           mono for measure.
+     * @param <TypeOfResult> type of result.
+     * @return measured mono.
+     */
+    @NonNull
+    public <TypeOfResult> Mono<TypeOfResult> measure(@NonNull String operation,
+                                                     @NonNull IgniteOperation kind,
+                                                     @NonNull Mono<TypeOfResult> mono) {
+        return measure(operation, kind, 1, mono);
+    }
+
+    /**
+     * Measure mono from its subscription to its termination.
+     * Used for operations that aren't backed by a single future of Ignite, they are counted for traced request here.
+     *
+     * @param operation      name of repository operation.
+     * @param kind           kind of Ignite operation.
+     * @param keys           count of keys of operation.
+     * @param mono           mono for measure.
+     * @param <TypeOfResult> type of result.
+     * @return measured mono.
+     */
+    @NonNull
+    public <TypeOfResult> Mono<TypeOfResult> measure(@NonNull String operation,
+                                                     @NonNull IgniteOperation kind,
+                                                     int keys,
+                                                     @NonNull Mono<TypeOfResult> mono) {
+        OperationMeters meters = metersOf(operation);
+        return Mono.subscriberContext().flatMap(context -> {
+            RequestTrace.countOperation(context, kind);
+            Measurement measurement = meters.start(keys);
+            return mono
+                    .doOnSuccess(it -> measurement.complete(Outcome.SUCCESS))
+                    .doOnError(ex -> measurement.complete(Outcome.ERROR))
+                    .doOnCancel(() -> measurement.complete(Outcome.CANCEL));
+        });
+    }
+
+    /**
+     * Measure flux from its subscription to its termination.
+     * Used for operations that aren't backed by a single future of Ignite, they are counted for traced request here.
+     *
+     * @param operation name of repository operation.
+     * @param kind      kind of Ignite operation.
+     * @param keys      count of keys of operation, zero for scans.
+     * @param flux      flux for measure.
+     * @param <Item>    type of result item.
+     * @return measured flux.
+     */
+    @NonNull
+    public <Item> Flux<Item> measure(@NonNull String operation,
+                                     @NonNull IgniteOperation kind,
+                                     int keys,
+                                     @NonNull Flux<Item> flux) {
+        OperationMeters meters = metersOf(operation);
+        return Mono.subscriberContext().flatMapMany(context -> {
+            RequestTrace.countOperation(context, kind);
+            Measurement measurement = meters.start(keys);
+            return flux
+                    .doOnComplete(() -> measurement.complete(Outcome.SUCCESS))
+                    .doOnError(ex -> measurement.complete(Outcome.ERROR))
+                    .doOnCancel(() -> measurement.complete(Outcome.CANCEL));
+        });
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Get meters of repository operation.
+     *
+     * @param operation name of repository operation.
+     * @return meters of operation.
+     */
+    @NonNull
+    private OperationMeters metersOf(@NonNull String operation) {
+        return operations.computeIfAbsent(operation, OperationMeters::new);
+    }
+    //</editor-fold>
+
+    /**
+     * Meters of one repository operation.
+     */
+    private class OperationMeters {
+        private final String operation;
+        private final Timer latency;
+        private final Counter errors;
+        private final AtomicInteger inFlight;
+
+        /**
+         * Constructor.
+         *
+         * @param operation name of repository operation.
+         */
+        private OperationMeters(@NonNull String operation) {
+            this.operation = operation;
+            Tags tags = Tags.of("operation", operation);
+            this.latency = Timer.builder("persons.repository")
+                    .description("Latency of repository operation from creation to completion of its future")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.errors = Counter.builder("persons.repository.errors")
+                    .description("Repository operations failed with exception")
+                    .tags(tags)
+                    .register(registry);
+            this.inFlight = registry.gauge("persons.repository.active", tags, new AtomicInteger());
+        }
+
+        /**
+         * Record start of operation.
+         *
+         * @param keys count of keys of operation.
+         * @return measurement of operation.
+         */
+        @NonNull
+        private Measurement start(int keys) {
+            inFlight.incrementAndGet();
+            return new Measurement(this, keys);
+        }
+    }
+
+    /**
+     * Measurement of one repository operation.
+     */
+    private static class Measurement {
+        private final OperationMeters meters;
+        private final long startedAt;
+        @Nullable
+        private final IgniteOperationEvent event;
+
+        /**
+         * Constructor. Event of flight recorder is created only if flight recorder exists and event is enabled.
+         *
+         * @param meters meters of repository operation.
+         * @param keys   count of keys of operation.
+         */
+        private Measurement(@NonNull OperationMeters meters, int keys) {
+            this.meters = meters;
+            this.startedAt = System.nanoTime();
+            this.event = FlightRecorderSupport.isAvailable() && IgniteOperationEvent.isTypeEnabled()
+                    ? new IgniteOperationEvent()
+                    : null;
+            if (nonNull(event)) {
+                event.keys = keys;
+                event.begin();
+            }
+        }
+
+        /**
+         * Record completion of operation.
+         *
+         * @param outcome outcome of operation.
+         */
+        private void complete(@NonNull Outcome outcome) {
+            meters.inFlight.decrementAndGet();
+            meters.latency.record(System.nanoTime() - startedAt, NANOSECONDS);
+            if (outcome == Outcome.ERROR) meters.errors.increment();
+            if (isNull(event)) return;
+
+            event.end();
+            if (!event.shouldCommit()) return;
+            event.cache = CACHE_NAME;
+            event.operation = meters.operation;
+            event.outcome = outcome.name();
+            event.commit();
+        }
+    }
+
+    /**
+     * Outcome of repository operation.
+     */
+    private enum Outcome {
+        SUCCESS,
+        ERROR,
+        CANCEL
+    }
+}
@@ -0,0 +1,177 @@
+package com.github.mikhailstepanov88.ignite_meetup.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.isNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@Component
+public class RouteMetrics implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+    //<editor-fold desc="constants">
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    //</editor-fold>
+
+    private final MeterRegistry registry;
+    private final Map<String, RouteMeters> routes = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param registry registry of metrics.
+     */
+    public RouteMetrics(@NonNull MeterRegistry registry) {
+        this.registry = registry;
+    }
+    //</editor-fold>
+
+    /**
+     * Measure routed request from the start of its handling to the end of response body writing.
+     * Route is identified by method and pattern of path, so path variables don't multiply meters.
+     *
+     * @param request request for handle.
+     * @param next    handler of request.
+     * @return response of handler.
+     */
+    @NonNull
+    @Override
+    public Mono<ServerResponse> filter(@NonNull ServerRequest request, @NonNull HandlerFunction<ServerResponse> next) {
+        String method = request.methodName();
+        String uri = request.attribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE)
+                .map(it -> ((PathPattern) it).getPatternString())
+                .orElse(UNKNOWN_URI);
+        RouteMeters meters = routes.computeIfAbsent(method + " " + uri, it -> new RouteMeters(it, method, uri));
+
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            meters.inFlight.incrementAndGet();
+            try {
+                return next.handle(request)
+                        .<ServerResponse>map(response -> new MeasuredResponse(response, meters, startedAt))
+                        .doOnError(ex -> meters.complete(startedAt, null))
+                        .doOnCancel(() -> meters.complete(startedAt, null));
+            } catch (final RuntimeException ex) {
+                meters.complete(startedAt, null);
+                throw ex;
+            }
+        });
+    }
+
+    /**
+     * Meters of one route.
+     */
+    private class RouteMeters {
+        private final String key;
+        private final Tags tags;
+        private final Counter errors;
+        private final AtomicInteger inFlight;
+
+        /**
+         * Constructor.
+         *
+         * @param key    key of route.
+         * @param method method of route.
+         * @param uri    pattern of route path.
+         */
+        private RouteMeters(@NonNull String key, @NonNull String method, @NonNull String uri) {
+            this.key = key;
+            this.tags = Tags.of("method", method, "uri", uri);
+            this.errors = Counter.builder("persons.route.errors")
+                    .description("Requests of route failed with exception or server error")
+                    .tags(tags)
+                    .register(registry);
+            this.inFlight = registry.gauge("persons.route.active", tags, new AtomicInteger());
+        }
+
+        /**
+         * Record completion of request.
+         *
+         * @param startedAt start time of request handling.
+         * @param status    status of response or null if request failed with exception.
+         */
+        private void complete(long startedAt, @Nullable HttpStatus status) {
+            inFlight.decrementAndGet();
+            String statusTag = isNull(status) ? "EXCEPTION" : String.valueOf(status.value());
+            if (isNull(status) || status.is5xxServerError()) errors.increment();
+            timers.computeIfAbsent(key + " " + statusTag, it -> Timer.builder("persons.route")
+                    .description("Latency of route from the start of handling to the end of response writing")
+                    .tags(tags)
+                    .tag("status", statusTag)
+                    .publishPercentileHistogram()
+                    .register(registry))
+                    .record(System.nanoTime() - startedAt, NANOSECONDS);
+        }
+    }
+
+    /**
+     * Response that records metrics of its route when it is written.
+     */
+    private static class MeasuredResponse implements ServerResponse {
+        private final ServerResponse delegate;
+        private final RouteMeters meters;
+        private final long startedAt;
+
+        /**
+         * Constructor.
+         *
+         * @param delegate  response for write.
+         * @param meters    meters of route.
+         * @param startedAt start time of request handling.
+         */
+        private MeasuredResponse(@NonNull ServerResponse delegate, @NonNull RouteMeters meters, long startedAt) {
+            this.delegate = delegate;
+            this.meters = meters;
+            this.startedAt = startedAt;
+        }
+
+        @NonNull
+        @Override
+        public HttpStatus statusCode() {
+            return delegate.statusCode();
+        }
+
+        @NonNull
+        @Override
+        public HttpHeaders headers() {
+            return delegate.headers();
+        }
+
+        @NonNull
+        @Override
+        public MultiValueMap<String, ResponseCookie> cookies() {
+            return delegate.cookies();
+        }
+
+        @NonNull
+        @Override
+        public Mono<Void> writeTo(@NonNull ServerWebExchange exchange, @NonNull Context context) {
+            return delegate.writeTo(exchange, context)
+                    .doOnSuccess(it -> meters.complete(startedAt, delegate.statusCode()))
+                    .doOnError(ex -> meters.complete(startedAt, null))
+                    .doOnCancel(() -> meters.complete(startedAt, null));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.mikhailstepanov88.ignite_meetup.repository;
+
+public class ClusterInactiveException extends RuntimeException {
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     */
+    public ClusterInactiveException() {
+        super("Cluster of Ignite is inactive, persons are available after its activation");
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,176 @@
+package com.github.mikhailstepanov88.ignite_meetup.repository;
+
+import org.apache.ignite.Ignite;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class IgniteActivation {
+    //<editor-fold desc="constants">
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final Logger LOGGER = LoggerFactory.getLogger(IgniteActivation.class);
+    //</editor-fold>
+
+    private final Ignite client;
+    private final Consumer<Ignite> preparation;
+    private final Scheduler scheduler;
+    private final List<Runnable> listeners = new ArrayList<>();
+    private volatile boolean active;
+    @Nullable
+    private Disposable pollTask;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     * Persistent cluster may start inactive, and caches and atomics can't be accessed until its activation.
+     * Ignite 2.6 has no event of cluster activation, so state of inactive cluster is polled.
+     *
+     * @param client      client to database.
+     * @param preparation preparation of cluster run on its activation before any access to persons.
+     */
+    public IgniteActivation(@NonNull Ignite client, @NonNull Consumer<Ignite> preparation) {
+        this.client = client;
+        this.preparation = preparation;
+        this.scheduler = Schedulers.newSingle("ignite-activation", true);
+        if (client.cluster().active()) {
+            activate();
+            return;
+        }
+        LOGGER.info("Cluster is inactive, access to persons is deferred until its activation");
+        synchronized (this) {
+            pollTask = scheduler.schedulePeriodically(this::poll,
+                    POLL_INTERVAL.toMillis(), POLL_INTERVAL.toMillis(), MILLISECONDS);
+        }
+    }
+    //</editor-fold>
+
+    /**
+     * Check that cluster is activated and prepared.
+     *
+     * @return cluster is activated or not.
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Run action on activation of cluster, or right now if cluster is already activated.
+     *
+     * @param listener action for run.
+     */
+    public void onActivation(@NonNull Runnable listener) {
+        synchronized (this) {
+            if (!active) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    /**
+     * Get handle that looks up object of Ignite on first access after activation of cluster.
+     *
+     * @param lookup         lookup of object of Ignite.
+     * @param <TypeOfObject> type of object of Ignite.
+     * @return handle of object of Ignite.
+     */
+    @NonNull
+    public <TypeOfObject> Handle<TypeOfObject> handle(@NonNull Function<Ignite, TypeOfObject> lookup) {
+        return new Handle<>(this, lookup);
+    }
+
+    /**
+     * Stop polling of cluster state.
+     */
+    @PreDestroy
+    public void close() {
+        scheduler.dispose();
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Check state of inactive cluster.
+     */
+    private void poll() {
+        try {
+            if (client.cluster().active()) activate();
+        } catch (final RuntimeException ex) {
+            LOGGER.warn("State of cluster can't be checked", ex);
+        }
+    }
+
+    /**
+     * Prepare activated cluster and notify listeners of activation.
+     */
+    private void activate() {
+        List<Runnable> activated;
+        synchronized (this) {
+            if (active) return;
+            preparation.accept(client);
+            active = true;
+            Optional.ofNullable(pollTask).ifPresent(Disposable::dispose);
+            activated = new ArrayList<>(listeners);
+            listeners.clear();
+        }
+        LOGGER.info("Cluster is active, persons are available");
+        activated.forEach(Runnable::run);
+    }
+    //</editor-fold>
+
+    /**
+     * Object of Ignite looked up on first access after activation of cluster.
+     *
+     * @param <TypeOfObject> type of object of Ignite.
+     */
+    public static class Handle<TypeOfObject> {
+        private final IgniteActivation activation;
+        private final Function<Ignite, TypeOfObject> lookup;
+        @Nullable
+        private volatile TypeOfObject value;
+
+        /**
+         * Constructor.
+         *
+         * @param activation activation of cluster.
+         * @param lookup     lookup of object of Ignite.
+         */
+        private Handle(@NonNull IgniteActivation activation, @NonNull Function<Ignite, TypeOfObject> lookup) {
+            this.activation = activation;
+            this.lookup = lookup;
+        }
+
+        /**
+         * Get object of Ignite.
+         *
+         * @return object of Ignite.
+         * @throws ClusterInactiveException if cluster isn't activated yet.
+         */
+        @NonNull
+        public TypeOfObject get() {
+            TypeOfObject value = this.value;
+            if (nonNull(value)) return value;
+            if (!activation.isActive()) throw new ClusterInactiveException();
+            synchronized (this) {
+                if (isNull(this.value)) this.value = lookup.apply(activation.client);
+                return this.value;
+            }
+        }
+    }
+}
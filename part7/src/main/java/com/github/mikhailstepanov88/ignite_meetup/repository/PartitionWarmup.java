@@ -0,0 +1,127 @@
+package com.github.mikhailstepanov88.ignite_meetup.repository;
+
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabasePersistence;
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ignite.Ignite;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.annotation.NonNull;
+
+import javax.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@Component
+public class PartitionWarmup implements PartitionWarmupJob.Progress {
+    //<editor-fold desc="constants">
+    private static final int DEFAULT_THREADS = 4;
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionWarmup.class);
+    //</editor-fold>
+
+    private final Ignite client;
+    private final int threads;
+    private final Timer duration;
+    private final Scheduler scheduler;
+    private final AtomicInteger totalPartitions = new AtomicInteger();
+    private final AtomicInteger warmedPartitions = new AtomicInteger();
+    private final AtomicLong entries = new AtomicLong();
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     * Warm-up is started in background on activation of cluster with embedded persistent server node,
+     * so the application serves requests meanwhile. Client node doesn't warm up server nodes,
+     * so restart of application doesn't scan cluster again.
+     *
+     * @param client     client to database.
+     * @param activation activation of Ignite cluster.
+     * @param properties properties of Ignite database.
+     * @param registry   registry of metrics.
+     */
+    public PartitionWarmup(@NonNull Ignite client,
+                           @NonNull IgniteActivation activation,
+                           @NonNull IgniteDatabaseProperties properties,
+                           @NonNull MeterRegistry registry) {
+        IgniteDatabasePersistence persistence = properties.getPersistence();
+        this.client = client;
+        this.threads = Optional.ofNullable(persistence.getWarmupThreads()).orElse(DEFAULT_THREADS);
+        this.scheduler = Schedulers.newSingle("ignite-warmup", true);
+        this.duration = Timer.builder("ignite.warmup.duration")
+                .description("Duration of warm-up of partitions of persons")
+                .register(registry);
+        Gauge.builder("ignite.warmup.partitions", totalPartitions, AtomicInteger::get)
+                .description("Partitions of persons for warm-up or already warmed up")
+                .tag("state", "total")
+                .register(registry);
+        Gauge.builder("ignite.warmup.partitions", warmedPartitions, AtomicInteger::get)
+                .description("Partitions of persons for warm-up or already warmed up")
+                .tag("state", "warmed")
+                .register(registry);
+        FunctionCounter.builder("ignite.warmup.entries", entries, AtomicLong::get)
+                .description("Entries of persons read by warm-up")
+                .register(registry);
+
+        if (!client.cluster().localNode().isClient() &&
+                Optional.ofNullable(persistence.getEnabled()).orElse(false) &&
+                Optional.ofNullable(persistence.getWarmupEnabled()).orElse(true))
+            activation.onActivation(() -> scheduler.schedule(this::warmUp));
+    }
+    //</editor-fold>
+
+    /**
+     * Count partitions for warm-up.
+     *
+     * @param partitions count of partitions for warm-up.
+     */
+    @Override
+    public void started(int partitions) {
+        totalPartitions.addAndGet(partitions);
+    }
+
+    /**
+     * Count warmed partition.
+     *
+     * @param entries count of read entries of partition.
+     */
+    @Override
+    public void warmed(long entries) {
+        warmedPartitions.incrementAndGet();
+        this.entries.addAndGet(entries);
+    }
+
+    /**
+     * Stop warm-up.
+     */
+    @PreDestroy
+    public void close() {
+        scheduler.dispose();
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Warm up partitions of local server node.
+     */
+    private void warmUp() {
+        long start = System.nanoTime();
+        try {
+            long[] result = new PartitionWarmupJob(threads, this).warmUp(client);
+            long elapsed = System.nanoTime() - start;
+            duration.record(elapsed, NANOSECONDS);
+            LOGGER.info("Warm-up of {} partitions with {} entries is completed in {} ms",
+                    result[0], result[1], NANOSECONDS.toMillis(elapsed));
+        } catch (final RuntimeException ex) {
+            LOGGER.warn("Warm-up of partitions is failed", ex);
+        }
+    }
+    //</editor-fold>
+}
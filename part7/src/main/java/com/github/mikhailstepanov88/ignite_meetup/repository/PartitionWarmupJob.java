@@ -0,0 +1,125 @@
+package com.github.mikhailstepanov88.ignite_meetup.repository;
+
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.cache.affinity.Affinity;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.cluster.ClusterNode;
+import reactor.util.annotation.NonNull;
+
+import javax.cache.Cache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PartitionWarmupJob {
+    //<editor-fold desc="constants">
+    private static final String CACHE_NAME = "persons";
+    //</editor-fold>
+
+    private final int threads;
+    private final Progress progress;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * @param threads  count of threads that read partitions in parallel.
+     * @param progress listener of warm-up progress.
+     */
+    public PartitionWarmupJob(int threads, @NonNull Progress progress) {
+        this.threads = threads;
+        this.progress = progress;
+    }
+    //</editor-fold>
+
+    /**
+     * Read all primary and backup partitions of persons on local node, so their pages are loaded from disk to memory.
+     * Partitions are read by local scans in parallel, values are kept binary and aren't deserialized.
+     *
+     * @param ignite local server node of Ignite.
+     * @return count of warmed partitions and count of read entries.
+     */
+    @NonNull
+    public long[] warmUp(@NonNull Ignite ignite) {
+        IgniteCache<Object, Object> cache = ignite.cache(CACHE_NAME).withKeepBinary();
+        Affinity<Object> affinity = ignite.affinity(CACHE_NAME);
+        ClusterNode node = ignite.cluster().localNode();
+        int[] partitions = affinity.allPartitions(node);
+        progress.started(partitions.length);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "ignite-warmup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Long>> futures = new ArrayList<>(partitions.length);
+            for (int partition : partitions)
+                futures.add(executor.submit(() -> warmUpPartition(ignite.log(), cache, partition)));
+
+            long entries = 0;
+            for (Future<Long> future : futures)
+                entries += future.get();
+            return new long[]{partitions.length, entries};
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IgniteException("Warm-up of partitions is interrupted", ex);
+        } catch (final ExecutionException ex) {
+            throw new IgniteException("Warm-up of partitions is failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Read all entries of local partition.
+     * Partition that is moved to another node during warm-up is skipped.
+     *
+     * @param log       logger of Ignite.
+     * @param cache     cache of persons with binary values.
+     * @param partition partition for read.
+     * @return count of read entries.
+     */
+    private long warmUpPartition(@NonNull IgniteLogger log, @NonNull IgniteCache<Object, Object> cache, int partition) {
+        long entries = 0;
+        try (QueryCursor<Cache.Entry<Object, Object>> cursor =
+                     cache.query(new ScanQuery<>().setPartition(partition).setLocal(true))) {
+            for (Cache.Entry<Object, Object> ignored : cursor)
+                entries++;
+        } catch (final RuntimeException ex) {
+            log.warning("Partition " + partition + " of cache " + CACHE_NAME + " is not warmed up: " + ex.getMessage());
+        }
+        progress.warmed(entries);
+        return entries;
+    }
+    //</editor-fold>
+
+    /**
+     * Listener of warm-up progress on local node.
+     */
+    public interface Progress {
+        /**
+         * Warm-up is started.
+         *
+         * @param partitions count of partitions for warm-up.
+         */
+        void started(int partitions);
+
+        /**
+         * Partition is warmed up.
+         *
+         * @param entries count of read entries of partition.
+         */
+        void warmed(long entries);
+    }
+}
\ No newline at end of file
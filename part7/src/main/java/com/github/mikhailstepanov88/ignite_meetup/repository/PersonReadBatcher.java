@@ -0,0 +1,227 @@
+package com.github.mikhailstepanov88.ignite_meetup.repository;
+
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseBatch;
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@Component
+public class PersonReadBatcher {
+    //<editor-fold desc="constants">
+    private static final String CACHE_NAME = "persons";
+    private static final int DEFAULT_MAX_SIZE = 256;
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofNanos(500_000);
+    //</editor-fold>
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long maxDelay;
+    private final Scheduler scheduler;
+    private final Timer addedLatency;
+    private final DistributionSummary batchSize;
+    private final IgniteActivation.Handle<IgniteCache<Long, BinaryObject>> personsBinaryCache;
+
+    private final Object lock = new Object();
+    private List<PendingRead> pending = new ArrayList<>();
+    private int inFlight;
+    @Nullable
+    private Disposable flushTask;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * Cache of persons is looked up on the first batch after activation of cluster.
+     *
+     * @param activation activation of Ignite cluster.
+     * @param properties properties of Ignite database.
+     * @param registry   registry of metrics.
+     */
+    public PersonReadBatcher(@NonNull IgniteActivation activation,
+                             @NonNull IgniteDatabaseProperties properties,
+                             @NonNull MeterRegistry registry) {
+        IgniteDatabaseBatch batch = properties.getReadBatch();
+        this.enabled = Optional.ofNullable(batch.getEnabled()).orElse(false);
+        this.maxSize = Optional.ofNullable(batch.getMaxSize()).orElse(DEFAULT_MAX_SIZE);
+        this.maxDelay = Optional.ofNullable(batch.getMaxDelay()).orElse(DEFAULT_MAX_DELAY).toNanos();
+        this.scheduler = Schedulers.newSingle("persons-read-batcher", true);
+        this.personsBinaryCache = activation.handle(it -> it.<Long, BinaryObject>cache(CACHE_NAME).withKeepBinary());
+        this.batchSize = DistributionSummary.builder("persons.read.batch.size")
+                .description("Number of reads sent in one batch")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.addedLatency = Timer.builder("persons.read.batch.latency")
+                .description("Time a read waits before its batch is sent")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+    //</editor-fold>
+
+    /**
+     * Check that batching of reads is enabled.
+     *
+     * @return batching of reads is enabled or not.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Read binary person with entered identifier in the next batch.
+     * Must not be called from a transaction, because the batch is sent from another thread.
+     *
+     * @param id identifier of person for read.
+     * @return binary person with entered identifier.
+     */
+    @NonNull
+    public Mono<BinaryObject> read(long id) {
+        return Mono.create(sink -> enqueue(new PendingRead(id, sink)));
+    }
+
+    /**
+     * Stop sending of batches.
+     */
+    @PreDestroy
+    public void close() {
+        scheduler.dispose();
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Add read to the next batch.
+     *
+     * @param read read for add.
+     */
+    private void enqueue(@NonNull PendingRead read) {
+        List<PendingRead> batch = null;
+        synchronized (lock) {
+            pending.add(read);
+            if (inFlight == 0 || pending.size() >= maxSize)
+                batch = takePending();
+            else if (isNull(flushTask))
+                flushTask = scheduler.schedule(this::flush, maxDelay, NANOSECONDS);
+        }
+        if (nonNull(batch)) dispatch(batch);
+    }
+
+    /**
+     * Send gathered reads when maximum delay is expired.
+     */
+    private void flush() {
+        List<PendingRead> batch;
+        synchronized (lock) {
+            flushTask = null;
+            if (pending.isEmpty()) return;
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    /**
+     * Complete batch and send reads gathered while it was in flight.
+     */
+    private void complete() {
+        List<PendingRead> batch = null;
+        synchronized (lock) {
+            inFlight--;
+            if (!pending.isEmpty())
+                batch = takePending();
+        }
+        if (nonNull(batch)) dispatch(batch);
+    }
+
+    /**
+     * Take gathered reads as a new batch. Must be called under lock.
+     *
+     * @return gathered reads.
+     */
+    @NonNull
+    private List<PendingRead> takePending() {
+        List<PendingRead> batch = pending;
+        pending = new ArrayList<>();
+        if (nonNull(flushTask)) {
+            flushTask.dispose();
+            flushTask = null;
+        }
+        inFlight++;
+        return batch;
+    }
+
+    /**
+     * Send batch of reads to database and fan results back to readers.
+     *
+     * @param batch batch of reads for send.
+     */
+    private void dispatch(@NonNull List<PendingRead> batch) {
+        long dispatchedAt = System.nanoTime();
+        Set<Long> ids = new HashSet<>();
+        for (PendingRead read : batch) {
+            ids.add(read.id);
+            addedLatency.record(dispatchedAt - read.enqueuedAt, NANOSECONDS);
+        }
+        batchSize.record(batch.size());
+
+        try {
+            personsBinaryCache.get().getAllAsync(ids).listen(future -> {
+                try {
+                    Map<Long, BinaryObject> result = future.get();
+                    for (PendingRead read : batch) {
+                        BinaryObject person = result.get(read.id);
+                        if (nonNull(person))
+                            read.sink.success(person);
+                        else
+                            read.sink.success();
+                    }
+                } catch (final Throwable ex) {
+                    batch.forEach(it -> it.sink.error(ex));
+                } finally {
+                    complete();
+                }
+            });
+        } catch (final Throwable ex) {
+            batch.forEach(it -> it.sink.error(ex));
+            complete();
+        }
+    }
+    //</editor-fold>
+
+    /**
+     * Read waiting for its batch.
+     */
+    private static class PendingRead {
+        private final long id;
+        private final long enqueuedAt;
+        private final MonoSink<BinaryObject> sink;
+
+        /**
+         * Constructor.
+         *
+         * @param id   identifier of person for read.
+         * @param sink sink for result of read.
+         */
+        private PendingRead(long id, @NonNull MonoSink<BinaryObject> sink) {
+            this.id = id;
+            this.sink = sink;
+            this.enqueuedAt = System.nanoTime();
+        }
+    }
+}
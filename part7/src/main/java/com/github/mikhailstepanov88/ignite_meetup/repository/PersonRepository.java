@@ -3,11 +3,14 @@ package com.github.mikhailstepanov88.ignite_meetup.repository;
 import com.github.mikhailstepanov88.ignite_meetup.converter.FluxConverter;
 import com.github.mikhailstepanov88.ignite_meetup.converter.MonoConverter;
 import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
+import com.github.mikhailstepanov88.ignite_meetup.diagnostics.QueryStatistics;
+import com.github.mikhailstepanov88.ignite_meetup.metrics.RepositoryMetrics;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteAtomicSequence;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.IgniteTransactions;
 import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.cache.query.QueryCursor;
 import org.apache.ignite.cache.query.ScanQuery;
 import org.apache.ignite.transactions.Transaction;
 import org.apache.ignite.transactions.TransactionConcurrency;
@@ -20,14 +23,13 @@ import reactor.util.annotation.Nullable;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
-import javax.cache.Cache;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
+import static com.github.mikhailstepanov88.ignite_meetup.diagnostics.IgniteOperation.*;
 import static java.util.Objects.isNull;
 import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
 import static org.apache.ignite.transactions.TransactionIsolation.SERIALIZABLE;
@@ -41,28 +43,48 @@ public class PersonRepository {
 
     private final MonoConverter monoConverter;
     private final FluxConverter fluxConverter;
+    private final PersonReadBatcher readBatcher;
+    private final PersonWriteBatcher writeBatcher;
+    private final RepositoryMetrics metrics;
+    private final QueryStatistics queryStatistics;
     private final IgniteTransactions transactions;
-    private final IgniteAtomicSequence personsSequence;
-    private final IgniteCache<Long, PersonEntity> personsCache;
-    private final IgniteCache<Long, BinaryObject> personsBinaryCache;
+    private final IgniteActivation.Handle<IgniteAtomicSequence> personsSequence;
+    private final IgniteActivation.Handle<IgniteCache<Long, PersonEntity>> personsCache;
+    private final IgniteActivation.Handle<IgniteCache<Long, BinaryObject>> personsBinaryCache;
 
     //<editor-fold desc="constructors">
     /**
      * Constructor.
+     * Caches and sequence of persons are looked up on the first access after activation of cluster,
+     * operations fail with {@link ClusterInactiveException} before it.
      *
-     * @param client        client to database.
-     * @param monoConverter converter for mono.
-     * @param fluxConverter converter for flux.
+     * @param client          client to database.
+     * @param activation      activation of Ignite cluster.
+     * @param monoConverter   converter for mono.
+     * @param fluxConverter   converter for flux.
+     * @param readBatcher     batcher of point reads.
+     * @param writeBatcher    batcher of writes.
+     * @param metrics         metrics of repository operations.
+     * @param queryStatistics statistics of person searches.
      */
     public PersonRepository(@NonNull Ignite client,
+                            @NonNull IgniteActivation activation,
                             @NonNull MonoConverter monoConverter,
-                            @NonNull FluxConverter fluxConverter) {
+                            @NonNull FluxConverter fluxConverter,
+                            @NonNull PersonReadBatcher readBatcher,
+                            @NonNull PersonWriteBatcher writeBatcher,
+                            @NonNull RepositoryMetrics metrics,
+                            @NonNull QueryStatistics queryStatistics) {
         this.monoConverter = monoConverter;
         this.fluxConverter = fluxConverter;
+        this.readBatcher = readBatcher;
+        this.writeBatcher = writeBatcher;
+        this.metrics = metrics;
+        this.queryStatistics = queryStatistics;
         this.transactions = client.transactions();
-        this.personsCache = client.getOrCreateCache(CACHE_NAME);
-        this.personsSequence = client.atomicSequence(SEQUENCE_NAME, 0, true);
-        this.personsBinaryCache = client.getOrCreateCache(CACHE_NAME).withKeepBinary();
+        this.personsCache = activation.handle(it -> it.cache(CACHE_NAME));
+        this.personsSequence = activation.handle(it -> it.atomicSequence(SEQUENCE_NAME, 0, true));
+        this.personsBinaryCache = activation.handle(it -> it.<Long, BinaryObject>cache(CACHE_NAME).withKeepBinary());
     }
     //</editor-fold>
 
@@ -74,8 +96,9 @@ public class PersonRepository {
      */
     @NonNull
     public Mono<Long> createPerson(@NonNull PersonEntity person) {
-        Long id = personsSequence.incrementAndGet();
-        return monoConverter.igniteFutureToMono(personsCache.putAsync(id, person)).thenReturn(id);
+        Long id = personsSequence.get().incrementAndGet();
+        if (writeBatcher.isEnabled()) return metrics.measure("createPerson", PUT, writeBatcher.create(id, person)).thenReturn(id);
+        return monoConverter.igniteFutureToMono(PUT, () -> metrics.measure("createPerson", personsCache.get().putAsync(id, person))).thenReturn(id);
     }
 
     /**
@@ -87,7 +110,7 @@ public class PersonRepository {
      */
     @NonNull
     public Mono<Boolean> createFriendOfPerson(long personId, long friendId) {
-        return monoConverter.igniteFutureToMono(personsBinaryCache.invokeAsync(personId, (entry, arguments) -> {
+        return monoConverter.igniteFutureToMono(INVOKE, () -> metrics.measure("createFriendOfPerson", personsBinaryCache.get().invokeAsync(personId, (entry, arguments) -> {
             if (isNull(entry.getValue())) return false;
 
             long externalFriendId = (long) arguments[0];
@@ -105,7 +128,7 @@ public class PersonRepository {
                     .setField("friendIds", personFriendIds, Object.class)
                     .build());
             return true;
-        }, friendId));
+        }, friendId)));
     }
 
     /**
@@ -116,7 +139,8 @@ public class PersonRepository {
      */
     @NonNull
     public Mono<PersonEntity> readPersonById(long id) {
-        return monoConverter.igniteFutureToMono(personsCache.getAsync(id));
+        if (readBatcher.isEnabled()) return metrics.measure("readPersonById", GET, readBatcher.read(id)).map(it -> it.<PersonEntity>deserialize());
+        return monoConverter.igniteFutureToMono(GET, () -> metrics.measure("readPersonById", personsCache.get().getAsync(id)));
     }
 
     /**
@@ -128,7 +152,31 @@ public class PersonRepository {
     @NonNull
     public Flux<Tuple2<Long, PersonEntity>> readPersonByIds(@NonNull Collection<Long> ids) {
         if (ids.isEmpty()) return Flux.empty();
-        return fluxConverter.igniteFutureMapToFlux(personsCache.getAllAsync(new HashSet<>(ids)));
+        return fluxConverter.igniteFutureMapToFlux(GET_ALL, () -> metrics.measure("readPersonByIds", ids.size(), personsCache.get().getAllAsync(new HashSet<>(ids))));
+    }
+
+    /**
+     * Read binary person with entered identifier.
+     *
+     * @param id identifier of person for read.
+     * @return binary person with entered identifier.
+     */
+    @NonNull
+    public Mono<BinaryObject> readPersonBinaryById(long id) {
+        if (readBatcher.isEnabled()) return metrics.measure("readPersonBinaryById", GET, readBatcher.read(id));
+        return monoConverter.igniteFutureToMono(GET, () -> metrics.measure("readPersonBinaryById", personsBinaryCache.get().getAsync(id)));
+    }
+
+    /**
+     * Read binary persons with entered identifiers.
+     *
+     * @param ids identifiers of persons for read.
+     * @return binary persons with entered identifiers.
+     */
+    @NonNull
+    public Flux<Tuple2<Long, BinaryObject>> readPersonBinaryByIds(@NonNull Collection<Long> ids) {
+        if (ids.isEmpty()) return Flux.empty();
+        return fluxConverter.igniteFutureMapToFlux(GET_ALL, () -> metrics.measure("readPersonBinaryByIds", ids.size(), personsBinaryCache.get().getAllAsync(new HashSet<>(ids))));
     }
 
     /**
@@ -141,17 +189,23 @@ public class PersonRepository {
     @NonNull
     public Flux<Tuple2<Long, PersonEntity>> readAllPersonsByQuery(@Nullable String firstName,
                                                                   @Nullable String lastName) {
-        Collection<Cache.Entry<Long, BinaryObject>> result = personsBinaryCache.query(
-                new ScanQuery<Long, BinaryObject>((key, value) -> {
-                    String personFirstName = value.field("firstName");
-                    String personLastName = value.field("lastName");
-                    return (isNull(firstName) || personFirstName.contains(firstName)) &&
-                           (isNull(lastName)  || personLastName.contains(lastName));
-                })
-        ).getAll();
-        return Flux.fromIterable(result.stream()
-                .map(it -> Tuples.of(it.getKey(), it.getValue().<PersonEntity>deserialize()))
-                .collect(Collectors.toList()));
+        return metrics.measure("readAllPersonsByQuery", QUERY, 0, queryStatistics.record(firstName, lastName,
+                queryPersonsBinary(firstName, lastName)
+                        .map(it -> Tuples.of(it.getT1(), it.getT2().<PersonEntity>deserialize()))));
+    }
+
+    /**
+     * Read all binary persons by entered query.
+     *
+     * @param firstName first name of person for read.
+     * @param lastName  last name of person for read.
+     * @return all binary persons by entered query.
+     */
+    @NonNull
+    public Flux<Tuple2<Long, BinaryObject>> readAllPersonsBinaryByQuery(@Nullable String firstName,
+                                                                        @Nullable String lastName) {
+        return metrics.measure("readAllPersonsBinaryByQuery", QUERY, 0, queryStatistics.record(firstName, lastName,
+                queryPersonsBinary(firstName, lastName)));
     }
 
     /**
@@ -162,7 +216,7 @@ public class PersonRepository {
      */
     @NonNull
     public Flux<Long> readAllFriendIdsOfPerson(long personId) {
-        return fluxConverter.igniteFutureCollectionToFlux(personsBinaryCache.invokeAsync(personId, (entry, arguments) -> {
+        return fluxConverter.igniteFutureCollectionToFlux(INVOKE, () -> metrics.measure("readAllFriendIdsOfPerson", personsBinaryCache.get().invokeAsync(personId, (entry, arguments) -> {
             if (isNull(entry.getValue())) return new HashSet<>();
 
             BinaryObject personEntity = entry.getValue();
@@ -172,7 +226,7 @@ public class PersonRepository {
                     .map(it -> it.<Set<Long>>field("friendIds"))
                     .map(HashSet::new)
                     .orElse(new HashSet<>());
-        }));
+        })));
     }
 
     /**
@@ -184,7 +238,7 @@ public class PersonRepository {
      */
     @NonNull
     public Mono<Boolean> containPersonFriendWithId(long personId, long friendId) {
-        return monoConverter.igniteFutureToMono(personsBinaryCache.invokeAsync(personId, (entry, arguments) -> {
+        return monoConverter.igniteFutureToMono(INVOKE, () -> metrics.measure("containPersonFriendWithId", personsBinaryCache.get().invokeAsync(personId, (entry, arguments) -> {
             if (isNull(entry.getValue())) return false;
 
             long externalFriendId = (long) arguments[0];
@@ -197,7 +251,7 @@ public class PersonRepository {
                     .orElse(new HashSet<>());
 
             return personFriendIds.contains(externalFriendId);
-        }, friendId));
+        }, friendId)));
     }
 
     /**
@@ -209,7 +263,8 @@ public class PersonRepository {
      */
     @NonNull
     public Mono<Boolean> updatePerson(long id, @NonNull PersonEntity person) {
-        return monoConverter.igniteFutureToMono(personsCache.replaceAsync(id, person));
+        if (writeBatcher.isEnabled()) return metrics.measure("updatePerson", PUT, writeBatcher.update(id, person));
+        return monoConverter.igniteFutureToMono(PUT, () -> metrics.measure("updatePerson", personsCache.get().replaceAsync(id, person)));
     }
 
     /**
@@ -220,7 +275,7 @@ public class PersonRepository {
      */
     @NonNull
     public Mono<Boolean> deletePerson(long id) {
-        return monoConverter.igniteFutureToMono(personsCache.removeAsync(id));
+        return monoConverter.igniteFutureToMono(REMOVE, () -> metrics.measure("deletePerson", personsCache.get().removeAsync(id)));
     }
 
     /**
@@ -232,7 +287,7 @@ public class PersonRepository {
      */
     @NonNull
     public Mono<Boolean> deleteFriendOfPerson(long personId, long friendId) {
-        return monoConverter.igniteFutureToMono(personsBinaryCache.invokeAsync(personId, (entry, arguments) -> {
+        return monoConverter.igniteFutureToMono(INVOKE, () -> metrics.measure("deleteFriendOfPerson", personsBinaryCache.get().invokeAsync(personId, (entry, arguments) -> {
             if (isNull(entry.getValue())) return false;
 
             long externalFriendId = (long) arguments[0];
@@ -250,7 +305,7 @@ public class PersonRepository {
                     .setField("friendIds", personFriendIds, Object.class)
                     .build());
             return true;
-        }, friendId));
+        }, friendId)));
     }
 
     /**
@@ -286,7 +341,7 @@ public class PersonRepository {
                                                                   @Nullable Long timeout,
                                                                   @Nullable Integer size,
                                                                   @NonNull Supplier<Mono<TypeOfResult>> action) {
-        return Mono.using(
+        return metrics.measure("executeInTransaction", TX, 0, Mono.using(
                 () -> transactions.txStart(
                         Optional.ofNullable(concurrency).orElse(PESSIMISTIC),
                         Optional.ofNullable(isolation).orElse(SERIALIZABLE),
@@ -297,6 +352,32 @@ public class PersonRepository {
                     else transaction.rollback();
                 }),
                 Transaction::close
+        ));
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Scan binary persons by entered query.
+     *
+     * @param firstName first name of person for scan.
+     * @param lastName  last name of person for scan.
+     * @return all binary persons by entered query.
+     */
+    @NonNull
+    private Flux<Tuple2<Long, BinaryObject>> queryPersonsBinary(@Nullable String firstName,
+                                                               @Nullable String lastName) {
+        return Flux.using(
+                () -> personsBinaryCache.get().query(
+                        new ScanQuery<Long, BinaryObject>((key, value) -> {
+                            String personFirstName = value.field("firstName");
+                            String personLastName = value.field("lastName");
+                            return (isNull(firstName) || personFirstName.contains(firstName)) &&
+                                   (isNull(lastName)  || personLastName.contains(lastName));
+                        })),
+                cursor -> Flux.fromIterable(cursor)
+                        .map(it -> Tuples.of(it.getKey(), it.getValue())),
+                QueryCursor::close
         );
     }
+    //</editor-fold>
 }
\ No newline at end of file
@@ -0,0 +1,322 @@
+package com.github.mikhailstepanov88.ignite_meetup.repository;
+
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseBatch;
+import com.github.mikhailstepanov88.ignite_meetup.config.properties.IgniteDatabaseProperties;
+import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteBinary;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.cache.CacheEntryProcessor;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.annotation.NonNull;
+import reactor.util.annotation.Nullable;
+
+import javax.annotation.PreDestroy;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.EntryProcessorResult;
+import javax.cache.processor.MutableEntry;
+import java.time.Duration;
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@Component
+public class PersonWriteBatcher {
+    //<editor-fold desc="constants">
+    private static final String CACHE_NAME = "persons";
+    private static final int DEFAULT_MAX_SIZE = 512;
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(1);
+    //</editor-fold>
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long maxDelay;
+    private final IgniteBinary binary;
+    private final Scheduler scheduler;
+    private final Counter coalescedUpdates;
+    private final DistributionSummary createBatchSize;
+    private final DistributionSummary updateBatchSize;
+    private final IgniteActivation.Handle<IgniteCache<Long, PersonEntity>> personsCache;
+    private final IgniteActivation.Handle<IgniteCache<Long, BinaryObject>> personsBinaryCache;
+
+    private final Object lock = new Object();
+    private Map<Long, PendingWrite> creates = new HashMap<>();
+    private Map<Long, PendingWrite> updates = new HashMap<>();
+    @Nullable
+    private Disposable flushTask;
+
+    //<editor-fold desc="constructors">
+    /**
+     * Constructor.
+     *
+     * Caches of persons are looked up on the first batch after activation of cluster.
+     *
+     * @param client     client to database.
+     * @param activation activation of Ignite cluster.
+     * @param properties properties of Ignite database.
+     * @param registry   registry of metrics.
+     */
+    public PersonWriteBatcher(@NonNull Ignite client,
+                              @NonNull IgniteActivation activation,
+                              @NonNull IgniteDatabaseProperties properties,
+                              @NonNull MeterRegistry registry) {
+        IgniteDatabaseBatch batch = properties.getWriteBatch();
+        this.enabled = Optional.ofNullable(batch.getEnabled()).orElse(false);
+        this.maxSize = Optional.ofNullable(batch.getMaxSize()).orElse(DEFAULT_MAX_SIZE);
+        this.maxDelay = Optional.ofNullable(batch.getMaxDelay()).orElse(DEFAULT_MAX_DELAY).toNanos();
+        this.binary = client.binary();
+        this.scheduler = Schedulers.newSingle("persons-write-batcher", true);
+        this.personsCache = activation.handle(it -> it.cache(CACHE_NAME));
+        this.personsBinaryCache = activation.handle(it -> it.<Long, BinaryObject>cache(CACHE_NAME).withKeepBinary());
+        this.createBatchSize = DistributionSummary.builder("persons.write.batch.size")
+                .description("Number of writes sent in one batch")
+                .tag("operation", "create")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.updateBatchSize = DistributionSummary.builder("persons.write.batch.size")
+                .description("Number of writes sent in one batch")
+                .tag("operation", "update")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.coalescedUpdates = Counter.builder("persons.write.batch.coalesced")
+                .description("Number of updates merged into another update of the same person")
+                .register(registry);
+    }
+    //</editor-fold>
+
+    /**
+     * Check that batching of writes is enabled.
+     *
+     * @return batching of writes is enabled or not.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Create person in the next batch.
+     *
+     * @param id     identifier of person for create.
+     * @param person person for create.
+     * @return completion of create operation.
+     */
+    @NonNull
+    public Mono<Void> create(long id, @NonNull PersonEntity person) {
+        return Mono.<Boolean>create(sink -> enqueue(false, id, person, sink)).then();
+    }
+
+    /**
+     * Update person in the next batch.
+     * Updates of the same person in one batch are merged, and the last of them is written.
+     *
+     * @param id     identifier of person for update.
+     * @param person updated person.
+     * @return operation complete successfully or not.
+     */
+    @NonNull
+    public Mono<Boolean> update(long id, @NonNull PersonEntity person) {
+        return Mono.create(sink -> enqueue(true, id, person, sink));
+    }
+
+    /**
+     * Stop sending of batches.
+     */
+    @PreDestroy
+    public void close() {
+        scheduler.dispose();
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Add write to the next batch.
+     *
+     * @param update write is update or create.
+     * @param id     identifier of person for write.
+     * @param person person for write.
+     * @param sink   sink for result of write.
+     */
+    private void enqueue(boolean update,
+                         long id,
+                         @NonNull PersonEntity person,
+                         @NonNull MonoSink<Boolean> sink) {
+        boolean full = false;
+        synchronized (lock) {
+            Map<Long, PendingWrite> pending = update ? updates : creates;
+            PendingWrite write = pending.get(id);
+            if (isNull(write)) {
+                pending.put(id, new PendingWrite(person, sink));
+            } else {
+                write.merge(person, sink);
+                coalescedUpdates.increment();
+            }
+
+            if (creates.size() + updates.size() >= maxSize)
+                full = true;
+            else if (isNull(flushTask))
+                flushTask = scheduler.schedule(this::flush, maxDelay, NANOSECONDS);
+        }
+        if (full) flush();
+    }
+
+    /**
+     * Send gathered writes to database.
+     */
+    private void flush() {
+        Map<Long, PendingWrite> createBatch;
+        Map<Long, PendingWrite> updateBatch;
+        synchronized (lock) {
+            if (nonNull(flushTask)) {
+                flushTask.dispose();
+                flushTask = null;
+            }
+            createBatch = creates;
+            updateBatch = updates;
+            creates = new HashMap<>();
+            updates = new HashMap<>();
+        }
+        if (!createBatch.isEmpty()) dispatchCreates(createBatch);
+        if (!updateBatch.isEmpty()) dispatchUpdates(updateBatch);
+    }
+
+    /**
+     * Send batch of creates to database as one put.
+     * Keys are sorted, so concurrent transactions lock overlapping keys in the same order and don't deadlock.
+     *
+     * @param batch batch of creates for send.
+     */
+    private void dispatchCreates(@NonNull Map<Long, PendingWrite> batch) {
+        Map<Long, PersonEntity> persons = new TreeMap<>();
+        batch.forEach((id, write) -> persons.put(id, write.person));
+        createBatchSize.record(batch.size());
+
+        try {
+            personsCache.get().putAllAsync(persons).listen(future -> {
+                try {
+                    future.get();
+                    batch.values().forEach(it -> it.success(true));
+                } catch (final Throwable ex) {
+                    batch.values().forEach(it -> it.error(ex));
+                }
+            });
+        } catch (final Throwable ex) {
+            batch.values().forEach(it -> it.error(ex));
+        }
+    }
+
+    /**
+     * Send batch of updates to database as one invoke.
+     * Keys are sorted, so concurrent transactions lock overlapping keys in the same order and don't deadlock.
+     * Failure of conversion of any person to binary object fails every write of batch.
+     *
+     * @param batch batch of updates for send.
+     */
+    private void dispatchUpdates(@NonNull Map<Long, PendingWrite> batch) {
+        updateBatchSize.record(batch.size());
+
+        try {
+            Map<Long, EntryProcessor<Long, BinaryObject, Boolean>> processors = new TreeMap<>();
+            batch.forEach((id, write) -> processors.put(id, new ReplaceProcessor(binary.toBinary(write.person))));
+            personsBinaryCache.get().invokeAllAsync(processors).listen(future -> {
+                try {
+                    Map<Long, EntryProcessorResult<Boolean>> result = future.get();
+                    batch.forEach((id, write) -> {
+                        try {
+                            EntryProcessorResult<Boolean> replaced = result.get(id);
+                            write.success(nonNull(replaced) && Boolean.TRUE.equals(replaced.get()));
+                        } catch (final Throwable ex) {
+                            write.error(ex);
+                        }
+                    });
+                } catch (final Throwable ex) {
+                    batch.values().forEach(it -> it.error(ex));
+                }
+            });
+        } catch (final Throwable ex) {
+            batch.values().forEach(it -> it.error(ex));
+        }
+    }
+    //</editor-fold>
+
+    /**
+     * Write waiting for its batch.
+     */
+    private static class PendingWrite {
+        private PersonEntity person;
+        private final List<MonoSink<Boolean>> sinks = new ArrayList<>(1);
+
+        /**
+         * Constructor.
+         *
+         * @param person person for write.
+         * @param sink   sink for result of write.
+         */
+        private PendingWrite(@NonNull PersonEntity person, @NonNull MonoSink<Boolean> sink) {
+            this.person = person;
+            this.sinks.add(sink);
+        }
+
+        /**
+         * Merge later write of the same person.
+         *
+         * @param person person for write.
+         * @param sink   sink for result of write.
+         */
+        private void merge(@NonNull PersonEntity person, @NonNull MonoSink<Boolean> sink) {
+            this.person = person;
+            this.sinks.add(sink);
+        }
+
+        /**
+         * Complete all writers successfully.
+         *
+         * @param result result of write.
+         */
+        private void success(boolean result) {
+            sinks.forEach(it -> it.success(result));
+        }
+
+        /**
+         * Complete all writers with error.
+         *
+         * @param ex error of write.
+         */
+        private void error(@NonNull Throwable ex) {
+            sinks.forEach(it -> it.error(ex));
+        }
+    }
+
+    /**
+     * Processor that replaces person only if it exists.
+     */
+    private static class ReplaceProcessor implements CacheEntryProcessor<Long, BinaryObject, Boolean> {
+        private final BinaryObject person;
+
+        /**
+         * Constructor.
+         *
+         * @param person updated person.
+         */
+        private ReplaceProcessor(@NonNull BinaryObject person) {
+            this.person = person;
+        }
+
+        @Override
+        public Boolean process(MutableEntry<Long, BinaryObject> entry, Object... arguments) {
+            if (!entry.exists()) return false;
+
+            entry.setValue(person);
+            return true;
+        }
+    }
+}
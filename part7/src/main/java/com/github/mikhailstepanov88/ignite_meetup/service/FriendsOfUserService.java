@@ -2,6 +2,7 @@ package com.github.mikhailstepanov88.ignite_meetup.service;
 
 import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
 import com.github.mikhailstepanov88.ignite_meetup.repository.PersonRepository;
+import org.apache.ignite.binary.BinaryObject;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -15,6 +16,10 @@ import static org.apache.ignite.transactions.TransactionIsolation.SERIALIZABLE;
 
 @Service
 public class FriendsOfUserService {
+    //<editor-fold desc="constants">
+    private static final int STREAM_CHUNK_SIZE = 256;
+    //</editor-fold>
+
     private final PersonRepository repository;
 
     //<editor-fold desc="constructors">
@@ -72,6 +77,47 @@ public class FriendsOfUserService {
                 .map(it -> Tuples.of(friendId, it));
     }
 
+    /**
+     * Read list of all binary friends of user.
+     *
+     * @param userId identifier of user for read.
+     * @return list of all binary friends of user.
+     */
+    @NonNull
+    public Flux<Tuple2<Long, BinaryObject>> readAllFriendsOfUserBinary(long userId) {
+        return repository.readAllFriendIdsOfPerson(userId).collectList()
+                .flatMapMany(repository::readPersonBinaryByIds);
+    }
+
+    /**
+     * Read stream of all binary friends of user.
+     * Friends are read by chunks, so the next chunk is read only when the previous one is consumed.
+     *
+     * @param userId identifier of user for read.
+     * @return stream of all binary friends of user.
+     */
+    @NonNull
+    public Flux<Tuple2<Long, BinaryObject>> streamAllFriendsOfUserBinary(long userId) {
+        return repository.readAllFriendIdsOfPerson(userId)
+                .buffer(STREAM_CHUNK_SIZE)
+                .concatMap(repository::readPersonBinaryByIds, 1);
+    }
+
+    /**
+     * Read binary friend of user by his identifier.
+     *
+     * @param userId   identifier of user for read.
+     * @param friendId identifier of friend for read.
+     * @return binary friend of user by his identifier.
+     */
+    @NonNull
+    public Mono<Tuple2<Long, BinaryObject>> readFriendOfUserBinaryById(long userId, long friendId) {
+        return repository.containPersonFriendWithId(userId, friendId)
+                .filter(TRUE::equals)
+                .flatMap(it -> repository.readPersonBinaryById(friendId))
+                .map(it -> Tuples.of(friendId, it));
+    }
+
     /**
      * Delete friend of user.
      *
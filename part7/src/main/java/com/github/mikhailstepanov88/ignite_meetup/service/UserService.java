@@ -2,6 +2,7 @@ package com.github.mikhailstepanov88.ignite_meetup.service;
 
 import com.github.mikhailstepanov88.ignite_meetup.data.entity.PersonEntity;
 import com.github.mikhailstepanov88.ignite_meetup.repository.PersonRepository;
+import org.apache.ignite.binary.BinaryObject;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -53,6 +54,19 @@ public class UserService {
         return repository.readAllPersonsByQuery(firstName, lastName);
     }
 
+    /**
+     * Read list of all binary users by entered query.
+     *
+     * @param firstName first name of person for read.
+     * @param lastName  last name of person for read.
+     * @return list of all binary users by entered query.
+     */
+    @NonNull
+    public Flux<Tuple2<Long, BinaryObject>> readAllUsersBinaryByQuery(@Nullable String firstName,
+                                                                      @Nullable String lastName) {
+        return repository.readAllPersonsBinaryByQuery(firstName, lastName);
+    }
+
     /**
      * Read user by his identifier.
      *
@@ -75,6 +89,28 @@ public class UserService {
         return repository.readPersonByIds(ids);
     }
 
+    /**
+     * Read binary user by his identifier.
+     *
+     * @param id identifier of user for read.
+     * @return binary user by his identifier.
+     */
+    @NonNull
+    public Mono<Tuple2<Long, BinaryObject>> readUserBinaryById(long id) {
+        return repository.readPersonBinaryById(id).map(it -> Tuples.of(id, it));
+    }
+
+    /**
+     * Read binary users by his identifiers.
+     *
+     * @param ids identifiers of users for read.
+     * @return binary users by his identifiers.
+     */
+    @NonNull
+    public Flux<Tuple2<Long, BinaryObject>> readUsersBinaryByIds(Collection<Long> ids) {
+        return repository.readPersonBinaryByIds(ids);
+    }
+
     /**
      * Update user by his identifier.
      *
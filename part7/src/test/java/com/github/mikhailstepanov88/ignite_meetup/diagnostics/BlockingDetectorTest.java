@@ -0,0 +1,154 @@
+package com.github.mikhailstepanov88.ignite_meetup.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.NonNull;
+
+import static org.junit.Assert.assertTrue;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+import static org.springframework.web.reactive.function.server.ServerResponse.ok;
+
+/**
+ * Requests are served by embedded server node of Ignite with detection of blocking calls,
+ * test route sleeps on event loop, so its call must be detected in both modes of detection.
+ */
+@RunWith(Enclosed.class)
+public class BlockingDetectorTest {
+    //<editor-fold desc="constants">
+    private static final String BLOCKING_PATH = "/test/blocking";
+    private static final String BLOCKING_ROUTE = "GET " + BLOCKING_PATH;
+    //</editor-fold>
+
+    /**
+     * Failing mode reports blocking call and fails request with it.
+     */
+    @RunWith(SpringRunner.class)
+    @SpringBootTest(webEnvironment = RANDOM_PORT, properties = {
+            "database.mode=server",
+            "database.local_node.name=ignite-test",
+            "database.local_node.port=47600",
+            "database.remote_nodes[0].host=127.0.0.1",
+            "database.remote_nodes[0].port=47600",
+            "database.data_region.initial_size=67108864",
+            "database.data_region.max_size=134217728",
+            "database.persistence.enabled=false",
+            "diagnostics.blocking.enabled=true",
+            "diagnostics.blocking.fail=true",
+            "server.error.include-exception=true"
+    })
+    @Import(BlockingRoute.class)
+    @DirtiesContext
+    public static class FailMode {
+        @Autowired
+        private WebTestClient client;
+        @Autowired
+        private MeterRegistry registry;
+
+        /**
+         * Blocking call on event loop fails request and is counted for its route.
+         */
+        @Test
+        public void blockingCallFailsRequest() {
+            client.get()
+                    .uri(BLOCKING_PATH)
+                    .exchange()
+                    .expectStatus().is5xxServerError()
+                    .expectBody().jsonPath("$.exception").isEqualTo(BlockingOperationError.class.getName());
+            assertTrue(blockingCalls(registry) >= 1);
+        }
+    }
+
+    /**
+     * Logging mode reports blocking call and lets request complete.
+     */
+    @RunWith(SpringRunner.class)
+    @SpringBootTest(webEnvironment = RANDOM_PORT, properties = {
+            "database.mode=server",
+            "database.local_node.name=ignite-test",
+            "database.local_node.port=47600",
+            "database.remote_nodes[0].host=127.0.0.1",
+            "database.remote_nodes[0].port=47600",
+            "database.data_region.initial_size=67108864",
+            "database.data_region.max_size=134217728",
+            "database.persistence.enabled=false",
+            "diagnostics.blocking.enabled=true",
+            "diagnostics.blocking.fail=false",
+            "diagnostics.blocking.sample_rate=1.0"
+    })
+    @Import(BlockingRoute.class)
+    @DirtiesContext
+    public static class LogMode {
+        @Autowired
+        private WebTestClient client;
+        @Autowired
+        private MeterRegistry registry;
+
+        /**
+         * Blocking call on event loop is counted for its route.
+         */
+        @Test
+        public void blockingCallIsCounted() {
+            double before = blockingCalls(registry);
+            client.get()
+                    .uri(BLOCKING_PATH)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(String.class).isEqualTo("slept");
+            assertTrue(blockingCalls(registry) > before);
+        }
+    }
+
+    /**
+     * Route that makes known blocking call on event loop.
+     */
+    @TestConfiguration
+    static class BlockingRoute {
+        /**
+         * Get function for routing of blocking route.
+         *
+         * @return function for routing.
+         */
+        @Bean
+        @NonNull
+        public RouterFunction<ServerResponse> blockingRouterFunction() {
+            return route(GET(BLOCKING_PATH), request -> Mono.fromCallable(() -> {
+                Thread.sleep(1);
+                return "slept";
+            }).flatMap(it -> ok().syncBody(it)));
+        }
+    }
+
+    //<editor-fold desc="private additional methods">
+    /**
+     * Get count of blocking calls detected on blocking route.
+     *
+     * @param registry registry of metrics.
+     * @return count of blocking calls.
+     */
+    private static double blockingCalls(@NonNull MeterRegistry registry) {
+        return registry.find("persons.blocking.calls")
+                .tag("route", BLOCKING_ROUTE)
+                .counters()
+                .stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+    //</editor-fold>
+}
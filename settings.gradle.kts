@@ -6,4 +6,8 @@ include("part3")
 include("part4")
 include("part5")
 include("part6")
-include("part7")
\ No newline at end of file
+include("part7")
+include("offload")
+include("datagen")
+include("benchmarks")
+include("loadtest")
\ No newline at end of file